@@ -0,0 +1,92 @@
+package zeitmaschine.bench;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Zugriff auf die Klassen der Anwendung.
+ *
+ * Die meisten Anwendungsklassen liegen im Default-Package und lassen sich aus einem
+ * benannten Package nicht importieren (JMH erlaubt keine Benchmarks im Default-Package).
+ * Sie werden daher einmalig über MethodHandles aufgelöst; private Hot-Paths ebenso.
+ */
+final class App {
+    private App() {}
+
+    static Class<?> type(String name) {
+        try {
+            return Class.forName(name);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Anwendungsklasse fehlt: " + name, e);
+        }
+    }
+
+    static MethodHandle constructor(Class<?> owner, Class<?>... params) {
+        try {
+            return MethodHandles.publicLookup().findConstructor(owner, MethodType.methodType(void.class, params));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static MethodHandle staticMethod(Class<?> owner, String name, Class<?> ret, Class<?>... params) {
+        try {
+            return lookup(owner).findStatic(owner, name, MethodType.methodType(ret, params));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static MethodHandle method(Class<?> owner, String name, Class<?> ret, Class<?>... params) {
+        try {
+            return lookup(owner).findVirtual(owner, name, MethodType.methodType(ret, params));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static VarHandle field(Class<?> owner, String name, Class<?> type) {
+        try {
+            return lookup(owner).findVarHandle(owner, name, type);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // Auch private Member: beide Seiten liegen im unbenannten Modul des Klassenpfads
+    private static MethodHandles.Lookup lookup(Class<?> owner) throws IllegalAccessException {
+        return MethodHandles.privateLookupIn(owner, MethodHandles.lookup());
+    }
+
+    /** Ersatz für die PNG-Assets (liegen nicht im Repository): Verlauf mit transparentem Rand. */
+    static BufferedImage testImage(int w, int h) {
+        BufferedImage img = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = img.createGraphics();
+        try {
+            g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            g2.setPaint(new GradientPaint(0, 0, new Color(181, 137, 61), w, h, new Color(92, 64, 28)));
+            g2.fillOval(w / 16, h / 16, w - w / 8, h - h / 8);
+            g2.setColor(new Color(40, 30, 20));
+            for (int i = 0; i < 12; i++) {
+                double a = i * Math.PI / 6;
+                int x = (int) (w / 2 + Math.cos(a) * w * 0.38);
+                int y = (int) (h / 2 + Math.sin(a) * h * 0.38);
+                g2.fillRect(x - w / 40, y - h / 40, w / 20, h / 20);
+            }
+        } finally {
+            g2.dispose();
+        }
+        return img;
+    }
+
+    /** Offscreen-Ziel wie ein Backbuffer; {@code scale} simuliert HiDPI. */
+    static Graphics2D target(BufferedImage canvas, double scale) {
+        Graphics2D g2 = canvas.createGraphics();
+        g2.scale(scale, scale);
+        return g2;
+    }
+}
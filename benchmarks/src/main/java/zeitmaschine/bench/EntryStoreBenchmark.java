@@ -0,0 +1,62 @@
+package zeitmaschine.bench;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code EntryStoreIO.loadOrEmpty/save} mit 1k bis 1M Einträgen (drei Einträge pro Tag).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class EntryStoreBenchmark {
+
+    private static final Class<?> IO = App.type("EntryStoreIO");
+    private static final MethodHandle LOAD = App.staticMethod(IO, "loadOrEmpty", Map.class, Path.class);
+    private static final MethodHandle SAVE = App.staticMethod(IO, "save", void.class, Map.class, Path.class);
+
+    @Param({"1000", "100000", "1000000"})
+    public int entries;
+
+    private Map<LocalDate, List<String>> store;
+    private Path dir;
+    private Path loadFile;
+    private Path saveFile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Throwable {
+        store = Stores.generate(entries, 0.05, 42L);
+        dir = Files.createTempDirectory("zeitmaschine-bench");
+        loadFile = dir.resolve("load.properties");
+        saveFile = dir.resolve("save.properties");
+        SAVE.invoke(store, loadFile);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(loadFile);
+        Files.deleteIfExists(saveFile);
+        Files.deleteIfExists(dir);
+    }
+
+    @Benchmark
+    public Object load() throws Throwable {
+        return LOAD.invoke(loadFile);
+    }
+
+    @Benchmark
+    public void save() throws Throwable {
+        SAVE.invoke(store, saveFile);
+    }
+}
@@ -0,0 +1,110 @@
+package zeitmaschine.bench;
+
+import org.openjdk.jmh.annotations.*;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Zeichnen von {@code BullaugeControl} (Ruhe und mitten im Flip) und {@code RotatableSprite}
+ * (gedreht) in ein Offscreen-Bild, bei Geräteskalierung 1.0 und 2.0.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class PaintBenchmark {
+
+    private static final Class<?> BULLAUGE = App.type("BullaugeControl");
+    private static final Class<?> FLIP_DISPLAY = App.type("FlipNumberDisplay");
+    private static final Class<?> WRAP_MODE = App.type("FlipNumberDisplay$WrapMode");
+    private static final Class<?> SPRITE = App.type("RotatableSprite");
+
+    private static final MethodHandle NEW_DISPLAY =
+            App.constructor(FLIP_DISPLAY, int.class, int.class, int.class, WRAP_MODE);
+    private static final MethodHandle NEW_BULLAUGE =
+            App.constructor(BULLAUGE, BufferedImage.class, FLIP_DISPLAY);
+    private static final MethodHandle NEW_SPRITE =
+            App.constructor(SPRITE, BufferedImage.class);
+
+    private static final MethodHandle START_FLIP = App.method(BULLAUGE, "startFlip", void.class, int.class, int.class);
+    private static final MethodHandle SET_WINDOW = App.method(BULLAUGE, "setWindowSizePx", void.class, int.class, int.class);
+    private static final MethodHandle SET_ANGLE = App.method(SPRITE, "setAngleRadians", void.class, double.class);
+
+    private static final VarHandle FLIP_TIMER = App.field(BULLAUGE, "flipTimer", Timer.class);
+    private static final VarHandle FLIPPING = App.field(BULLAUGE, "flipping", boolean.class);
+    private static final VarHandle FLIP_PROGRESS = App.field(BULLAUGE, "flipProgress", double.class);
+
+    @Param({"1.0", "2.0"})
+    public double deviceScale;
+
+    private JComponent restDial;
+    private JComponent flippingDial;
+    private JComponent gear;
+
+    private BufferedImage canvas;
+    private Graphics2D g;
+    private double angle;
+    private double progress;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Setup(Level.Trial)
+    public void setUp() throws Throwable {
+        BufferedImage frame = App.testImage(512, 512);
+        Object wrap = Enum.valueOf((Class) WRAP_MODE, "WRAP");
+
+        restDial = (JComponent) NEW_BULLAUGE.invoke(frame, NEW_DISPLAY.invoke(12, 1, 31, wrap));
+        flippingDial = (JComponent) NEW_BULLAUGE.invoke(frame, NEW_DISPLAY.invoke(12, 1, 31, wrap));
+        for (JComponent dial : new JComponent[]{restDial, flippingDial}) {
+            dial.setBounds(0, 0, 220, 220);
+            SET_WINDOW.invoke(dial, 90, 90);
+        }
+
+        // Flip starten und sofort den Timer anhalten – der Fortschritt wird pro Aufruf gesetzt
+        START_FLIP.invoke(flippingDial, 12, 13);
+        ((Timer) FLIP_TIMER.get(flippingDial)).stop();
+
+        gear = (JComponent) NEW_SPRITE.invoke(App.testImage(400, 400));
+        gear.setBounds(0, 0, 160, 160);
+
+        int size = (int) Math.ceil(220 * deviceScale);
+        canvas = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB_PRE);
+        g = App.target(canvas, deviceScale);
+
+        // Caches einmal füllen, gemessen wird der eingeschwungene Zustand
+        restDial.paint(g);
+        flippingDial.paint(g);
+        gear.paint(g);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        g.dispose();
+    }
+
+    @Benchmark
+    public void bullaugeAtRest() {
+        restDial.paint(g);
+    }
+
+    @Benchmark
+    public void bullaugeFlipping() {
+        progress = (progress + 0.037) % 1.0;
+        FLIPPING.set(flippingDial, true);
+        FLIP_PROGRESS.set(flippingDial, progress);
+        flippingDial.paint(g);
+    }
+
+    @Benchmark
+    public void rotatedGear() throws Throwable {
+        angle += 0.05;
+        SET_ANGLE.invoke(gear, angle);
+        gear.paint(g);
+    }
+}
@@ -0,0 +1,49 @@
+package zeitmaschine.bench;
+
+import DayEntriesWindow.DayOccurrences;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wiederholungs-Scan eines Tages ({@link DayOccurrences#compute}) – läuft bei jedem Öffnen
+ * eines Tagesfensters über den ganzen Store.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class RecurrenceBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int entries;
+
+    @Param({"0.05"})
+    public double repeaterShare;
+
+    private Map<LocalDate, List<String>> store;
+    private LocalDate[] days;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        store = Stores.generate(entries, repeaterShare, 42L);
+
+        // ein Jahr Tage rotieren, damit nicht immer derselbe Wochentag geprüft wird
+        days = new LocalDate[366];
+        LocalDate d = LocalDate.of(2024, 1, 1);
+        for (int i = 0; i < days.length; i++) days[i] = d.plusDays(i);
+    }
+
+    @Benchmark
+    public List<DayOccurrences.Occurrence> scanDay() {
+        LocalDate day = days[next];
+        next = (next + 1) % days.length;
+        return DayOccurrences.compute(store, day);
+    }
+}
@@ -0,0 +1,84 @@
+package zeitmaschine.bench;
+
+import DayEntriesWindow.SplitFlapDisplay;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.VarHandle;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fallblattanzeige: ein Animationsschritt, eine komplette Rattel-Animation und der Zeilenumbruch.
+ *
+ * Der Swing-Timer der Anzeige wird nicht benutzt; getaktet wird über {@link SplitFlapDisplay#advanceFrame()}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class SplitFlapBenchmark {
+
+    private static final MethodHandle WRAP =
+            App.staticMethod(SplitFlapDisplay.class, "wrapToLines", List.class, String.class, int.class, int.class);
+
+    private static final VarHandle CURRENT = App.field(SplitFlapDisplay.class, "current", char[][].class);
+    private static final VarHandle TARGET = App.field(SplitFlapDisplay.class, "target", char[][].class);
+    private static final VarHandle TICK = App.field(SplitFlapDisplay.class, "tick", int.class);
+
+    private static final String TEXT = "ZAHNARZT 10:30 GEBURTSTAG OMA ÖLWECHSEL BESPRECHUNG MÜLL RAUSBRINGEN "
+            + "ELTERNABEND 19:00 STEUERERKLÄRUNG KINO (SPÄT)";
+
+    @Param({"3", "10", "28"})
+    public int advancesPerTick;
+
+    private SplitFlapDisplay flap;
+    private char[][] current;
+    private char[][] target;
+    private char[][] goal;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Throwable {
+        flap = new SplitFlapDisplay(6, 16);
+        flap.setTiming(3, 3);
+        flap.setMaxAdvancesPerTick(advancesPerTick);
+        current = (char[][]) CURRENT.get(flap);
+        target = (char[][]) TARGET.get(flap);
+
+        // Zielzustand einmal über die echte API ermitteln, danach nur noch kopieren
+        flap.showTextRattle(TEXT);
+        flap.finishRattle();
+        goal = new char[target.length][];
+        for (int r = 0; r < target.length; r++) goal[r] = target[r].clone();
+    }
+
+    @Setup(Level.Invocation)
+    public void reset() {
+        for (int r = 0; r < current.length; r++) {
+            java.util.Arrays.fill(current[r], ' ');
+            System.arraycopy(goal[r], 0, target[r], 0, goal[r].length);
+        }
+        TICK.set(flap, 0);
+    }
+
+    /** Ein Frame kurz nach dem Start (alle Zeilen noch in Bewegung). */
+    @Benchmark
+    public boolean singleStep() {
+        return flap.advanceFrame();
+    }
+
+    /** Alle Frames bis zum Stillstand. */
+    @Benchmark
+    public int fullRattle() {
+        int frames = 1;
+        while (flap.advanceFrame() && frames < 10_000) frames++;
+        return frames;
+    }
+
+    @Benchmark
+    public Object wrapToLines() throws Throwable {
+        return WRAP.invoke(TEXT, 6, 16);
+    }
+}
@@ -0,0 +1,34 @@
+package zeitmaschine.bench;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/** Reproduzierbare Test-Stores im Format der Anwendung (Wiederholung als Präfix). */
+final class Stores {
+    private Stores() {}
+
+    private static final String[] PREFIXES = {"[R:YEAR] ", "[R:MON] ", "[R:WKD] "};
+    private static final String[] WORDS = {
+            "Zahnarzt", "Geburtstag", "Ölwechsel", "Besprechung", "Müll rausbringen",
+            "Training", "Elternabend", "Steuererklärung", "Kino", "Großeinkauf"
+    };
+
+    static Map<LocalDate, List<String>> generate(int entries, double repeaterShare, long seed) {
+        SplittableRandom rnd = new SplittableRandom(seed);
+        Map<LocalDate, List<String>> store = new HashMap<>();
+
+        // drei Einträge pro Tag, fortlaufend ab 2000-01-01
+        LocalDate start = LocalDate.of(2000, 1, 1);
+        for (int i = 0; i < entries; i++) {
+            LocalDate day = start.plusDays(i / 3);
+            String text = WORDS[rnd.nextInt(WORDS.length)] + " " + (i % 97);
+            if (rnd.nextDouble() < repeaterShare) text = PREFIXES[rnd.nextInt(PREFIXES.length)] + text;
+            store.computeIfAbsent(day, d -> new ArrayList<>()).add(text);
+        }
+        return store;
+    }
+}
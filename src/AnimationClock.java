@@ -0,0 +1,44 @@
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Zeit- und Zufallsquelle aller Animationen.
+ *
+ * Normalerweise nur ein Durchreichen von {@link System#nanoTime()} und {@link ThreadLocalRandom}.
+ * Im virtuellen Modus (Headless-Harness) steht die Uhr, bis sie mit {@link #advance(long)}
+ * weitergestellt wird, und der Zufall ist geseedet – damit ist eine Sitzung Frame für Frame
+ * reproduzierbar. Die Swing-Timer laufen dann nicht; der Harness treibt
+ * {@link Timeline#advance()} und die Komponenten selbst.
+ */
+public final class AnimationClock {
+    private AnimationClock() {}
+
+    private static volatile boolean virtual;
+    private static long virtualNanos;
+    private static RandomGenerator seeded;
+
+    public static long nanoTime() {
+        return virtual ? virtualNanos : System.nanoTime();
+    }
+
+    public static RandomGenerator random() {
+        return virtual ? seeded : ThreadLocalRandom.current();
+    }
+
+    public static boolean isVirtual() {
+        return virtual;
+    }
+
+    /** Schaltet auf virtuelle Zeit (Start bei 0) und geseedeten Zufall um. */
+    public static void useVirtual(long seed) {
+        virtualNanos = 0L;
+        seeded = new SplittableRandom(seed);
+        virtual = true;
+    }
+
+    public static void advance(long nanos) {
+        if (!virtual) throw new IllegalStateException("Nur im virtuellen Modus");
+        virtualNanos += Math.max(0L, nanos);
+    }
+}
@@ -0,0 +1,189 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Startprofil per Class-Data-Sharing: ein Trainingslauf schreibt ein Archiv mit allen dabei geladenen
+ * Klassen (Swing, ImageIO/PNG, Anwendung), spätere Starts mappen es statt die Klassen neu zu laden.
+ * Ab JDK 25 wird statt des dynamischen AppCDS-Archivs ein AOT-Cache erzeugt.
+ *
+ * <pre>
+ *   java -cp app.jar AppCds train [--headless]          Trainingslauf, schreibt das Archiv
+ *   java -cp app.jar AppCds run [Argumente für Main]    startet die Anwendung mit dem Archiv
+ *   java -cp app.jar AppCds measure [--runs=5] [--headless]
+ *                                                       Zeit bis zum ersten Frame ohne/mit Archiv
+ *   --archive=DATEI                                     Standard: neben dem Jar
+ * </pre>
+ * Trainiert wird mit {@code Main --training-run} ({@link TrainingRun}); mit {@code --headless} (ohne
+ * Display, z.B. CI) mit dem {@link HeadlessHarness}. CDS archiviert nur Klassen aus Jars, und der
+ * Klassenpfad muss beim Training und beim Start gleich sein – deshalb immer über dieses Werkzeug.
+ */
+public final class AppCds {
+
+    /** Zeile, die Main/HeadlessHarness nach dem ersten Frame ausgeben ({@code --startup-probe}). */
+    static final String FIRST_FRAME = "zeitmaschine:first-frame";
+
+    private static final boolean AOT_CACHE = Runtime.version().feature() >= 25;
+
+    private final String classPath = System.getProperty("java.class.path");
+    private final String javaExe = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+
+    private Path archive;
+    private boolean headless;
+    private int runs = 5;
+    private final List<String> appArgs = new ArrayList<>();
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            System.err.println("Aufruf: java -cp app.jar AppCds train|run|measure [--headless] [--runs=N] [--archive=DATEI]");
+            System.exit(2);
+        }
+
+        AppCds tool = new AppCds();
+        tool.parse(Arrays.copyOfRange(args, 1, args.length));
+
+        int exit = switch (args[0]) {
+            case "train" -> tool.train();
+            case "run" -> tool.run();
+            case "measure" -> tool.measure();
+            default -> {
+                System.err.println("Unbekannter Befehl: " + args[0]);
+                yield 2;
+            }
+        };
+        System.exit(exit);
+    }
+
+    private void parse(String[] args) throws URISyntaxException {
+        for (String a : args) {
+            if (a.startsWith("--archive=")) archive = Paths.get(a.substring("--archive=".length()));
+            else if (a.equals("--headless")) headless = true;
+            else if (a.startsWith("--runs=")) runs = Math.max(1, Integer.parseInt(a.substring("--runs=".length())));
+            else appArgs.add(a);
+        }
+        if (archive == null) archive = defaultArchive();
+    }
+
+    // neben dem Jar (bzw. im Klassenverzeichnis)
+    private static Path defaultArchive() throws URISyntaxException {
+        Path code = Paths.get(AppCds.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        Path dir = Files.isDirectory(code) ? code : code.getParent();
+        return dir.resolve(AOT_CACHE ? "zeitmaschine.aot" : "zeitmaschine.jsa");
+    }
+
+    // ===================== Befehle =====================
+
+    private int train() throws IOException, InterruptedException {
+        for (String entry : classPath.split(java.io.File.pathSeparator)) {
+            if (Files.isDirectory(Paths.get(entry))) {
+                System.err.println("[AppCds] Hinweis: Klassen aus Verzeichnissen archiviert CDS nicht (" + entry + ")");
+            }
+        }
+        Files.deleteIfExists(archive);
+
+        List<String> cmd = command(AOT_CACHE ? "-XX:AOTCacheOutput=" + archive : "-XX:ArchiveClassesAtExit=" + archive);
+        cmd.addAll(headless ? List.of("HeadlessHarness") : List.of("Main", "--training-run"));
+
+        long t0 = System.nanoTime();
+        int exit = new ProcessBuilder(cmd).inheritIO().start().waitFor();
+        if (exit != 0 || !Files.exists(archive)) {
+            System.err.println("[AppCds] Trainingslauf fehlgeschlagen (Exit " + exit + ")");
+            return 1;
+        }
+        System.out.printf(Locale.ROOT, "[AppCds] %s (%d KB) in %.1f s%n", archive, Files.size(archive) / 1024,
+                (System.nanoTime() - t0) / 1e9);
+        return 0;
+    }
+
+    private int run() throws IOException, InterruptedException {
+        List<String> cmd = Files.exists(archive) ? command(useArchive()) : command();
+        if (!Files.exists(archive)) System.err.println("[AppCds] kein Archiv, Start ohne: " + archive);
+        cmd.add("Main");
+        cmd.addAll(appArgs);
+        return new ProcessBuilder(cmd).inheritIO().start().waitFor();
+    }
+
+    private int measure() throws IOException, InterruptedException {
+        if (!Files.exists(archive)) {
+            System.err.println("[AppCds] kein Archiv – zuerst 'train' ausführen: " + archive);
+            return 1;
+        }
+
+        // Vorlauf: Dateicache füllen und prüfen, ob das Archiv überhaupt passt (strikt, sonst Abbruch)
+        firstFrameMs(false);
+        List<String> strict = new ArrayList<>(List.of(useArchive()));
+        strict.add(AOT_CACHE ? "-XX:AOTMode=on" : "-Xshare:on");
+        if (firstFrameMs(strict.toArray(new String[0])) < 0) {
+            System.err.println("[AppCds] Archiv passt nicht zu diesem JDK/Klassenpfad – neu trainieren");
+            return 1;
+        }
+
+        long[] without = new long[runs];
+        long[] with = new long[runs];
+        // abwechselnd, damit Störungen beide Seiten gleich treffen
+        for (int i = 0; i < runs; i++) {
+            without[i] = firstFrameMs(false);
+            with[i] = firstFrameMs(true);
+            if (without[i] < 0 || with[i] < 0) {
+                System.err.println("[AppCds] Messlauf ohne erstes Frame beendet");
+                return 1;
+            }
+        }
+        Arrays.sort(without);
+        Arrays.sort(with);
+
+        long a = without[runs / 2];
+        long b = with[runs / 2];
+        System.out.printf(Locale.ROOT, "Zeit bis zum ersten Frame (%s, %d Läufe, Median / Minimum):%n",
+                headless ? "headless" : "GUI", runs);
+        System.out.printf(Locale.ROOT, "  ohne Archiv  %5d ms / %5d ms%n", a, without[0]);
+        System.out.printf(Locale.ROOT, "  mit Archiv   %5d ms / %5d ms  (%+.0f %%)%n", b, with[0], (b - a) * 100.0 / a);
+        return 0;
+    }
+
+    // ===================== Kindprozesse =====================
+
+    private long firstFrameMs(boolean withArchive) throws IOException, InterruptedException {
+        return withArchive ? firstFrameMs(useArchive()) : firstFrameMs(new String[0]);
+    }
+
+    /** Startet die Anwendung bis zum ersten Frame; Wandzeit vom Prozessstart bis zur Marker-Zeile, -1 wenn keine kam. */
+    private long firstFrameMs(String... jvmOptions) throws IOException, InterruptedException {
+        List<String> cmd = command(jvmOptions);
+        if (headless) cmd.addAll(List.of("-Djava.awt.headless=true", "HeadlessHarness", "--startup-probe"));
+        else cmd.addAll(List.of("Main", "--startup-probe"));
+
+        long t0 = System.nanoTime();
+        Process p = new ProcessBuilder(cmd).redirectErrorStream(true).start();
+        long ms = -1;
+        try (BufferedReader r = new BufferedReader(new InputStreamReader(p.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = r.readLine()) != null) {
+                if (ms < 0 && line.equals(FIRST_FRAME)) ms = (System.nanoTime() - t0) / 1_000_000L;
+            }
+        }
+        return (p.waitFor() == 0) ? ms : -1;
+    }
+
+    private String useArchive() {
+        return AOT_CACHE ? "-XX:AOTCache=" + archive : "-XX:SharedArchiveFile=" + archive;
+    }
+
+    private List<String> command(String... jvmOptions) {
+        List<String> cmd = new ArrayList<>();
+        cmd.add(javaExe);
+        cmd.addAll(Arrays.asList(jvmOptions));
+        cmd.add("-cp");
+        cmd.add(classPath);
+        return cmd;
+    }
+}
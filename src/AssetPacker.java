@@ -0,0 +1,116 @@
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Build-Werkzeug: packt alle PNGs eines Verzeichnisses in ein einziges Archiv,
+ * das {@link PackedAssets} zur Laufzeit per Memory-Mapping liest (ohne PNG-Dekodierung).
+ *
+ * Aufruf: {@code java AssetPacker assets assets/assets.pack}; läuft auch bei {@code mvn package}, sobald es
+ * das Verzeichnis {@code assets} gibt (Archiv dann neben dem Jar).
+ *
+ * Format (Big Endian):
+ * <pre>
+ *   int   MAGIC ("ZMPK")
+ *   int   VERSION
+ *   int   Anzahl Einträge
+ *   je Eintrag: UTF Name ("assets/Hebel.png"), int Breite, int Höhe, long Offset der Pixel,
+ *               long Größe und long Änderungszeit (ms) der Quell-PNG
+ *   danach: Pixel als rohe ARGB-ints (nicht vormultipliziert), zeilenweise
+ * </pre>
+ * Über Größe und Änderungszeit erkennt {@link PackedAssets} veraltete Einträge (PNG seit dem
+ * Packen geändert), ohne die PNG zu lesen, und lädt dann die PNG.
+ */
+public final class AssetPacker {
+    private AssetPacker() {}
+
+    static final int MAGIC = 0x5A4D504B; // "ZMPK"
+    static final int VERSION = 3;
+
+    public static void main(String[] args) throws IOException {
+        Path dir = Paths.get(args.length > 0 ? args[0] : "assets");
+        Path out = Paths.get(args.length > 1 ? args[1] : dir.resolve(PackedAssets.DEFAULT_FILE_NAME).toString());
+
+        List<Path> pngs = new ArrayList<>();
+        try (Stream<Path> s = Files.list(dir)) {
+            s.filter(p -> p.getFileName().toString().toLowerCase().endsWith(".png"))
+                    .sorted()
+                    .forEach(pngs::add);
+        }
+
+        List<String> names = new ArrayList<>();
+        List<BufferedImage> images = new ArrayList<>();
+        List<Path> sources = new ArrayList<>();
+        for (Path p : pngs) {
+            BufferedImage img = ImageIO.read(new ByteArrayInputStream(Files.readAllBytes(p)));
+            if (img == null) {
+                System.err.println("Übersprungen (nicht lesbar): " + p);
+                continue;
+            }
+            // Name wie im Code verwendet, z.B. "assets/Hebel.png"
+            names.add(dir.getFileName() + "/" + p.getFileName());
+            images.add(img);
+            sources.add(p);
+        }
+
+        write(out, names, images, sources);
+        System.out.printf("%d Bilder -> %s (%d KB)%n", images.size(), out, Files.size(out) / 1024);
+    }
+
+    static void write(Path out, List<String> names, List<BufferedImage> images, List<Path> sources) throws IOException {
+        // Headergröße vorab bestimmen, damit die Offsets feststehen
+        int headerSize = header(names, images, sources, 0).length;
+
+        Path parent = out.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+
+        try (OutputStream os = new BufferedOutputStream(Files.newOutputStream(out), 1 << 16);
+             DataOutputStream data = new DataOutputStream(os)) {
+            data.write(header(names, images, sources, headerSize));
+
+            for (BufferedImage img : images) {
+                int w = img.getWidth();
+                int h = img.getHeight();
+                int[] row = new int[w];
+                for (int y = 0; y < h; y++) {
+                    img.getRGB(0, y, w, 1, row, 0, w);
+                    for (int argb : row) data.writeInt(argb);
+                }
+            }
+        }
+    }
+
+    private static byte[] header(List<String> names, List<BufferedImage> images, List<Path> sources,
+                                 long dataStart) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream h = new DataOutputStream(bytes);
+        h.writeInt(MAGIC);
+        h.writeInt(VERSION);
+        h.writeInt(images.size());
+
+        long offset = dataStart;
+        for (int i = 0; i < images.size(); i++) {
+            BufferedImage img = images.get(i);
+            h.writeUTF(names.get(i));
+            h.writeInt(img.getWidth());
+            h.writeInt(img.getHeight());
+            h.writeLong(offset);
+            h.writeLong(Files.size(sources.get(i)));
+            h.writeLong(Files.getLastModifiedTime(sources.get(i)).toMillis());
+            offset += 4L * img.getWidth() * img.getHeight();
+        }
+        h.flush();
+        return bytes.toByteArray();
+    }
+}
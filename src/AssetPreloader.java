@@ -0,0 +1,85 @@
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Dekodiert alle Maschinen-Assets parallel (je Asset ein virtueller Thread),
+ * sobald {@link #start()} in main() aufgerufen wird – noch bevor der EDT die UI baut.
+ *
+ * Das Panel holt sich die Bilder später über {@link #await(String)} und wartet dabei
+ * nur auf genau die Futures, die es gerade braucht.
+ */
+public final class AssetPreloader {
+    private AssetPreloader() {}
+
+    public static final List<String> MACHINE_ASSETS = List.of(
+            "assets/ZeitMaschiene.png",
+            "assets/ZeitMaschieneOhneHebel.png",
+            "assets/GlaselementeMitRohren.png",
+            "assets/Zahnrad1.png",
+            "assets/Zahnrad2.png",
+            "assets/Zahnrad3.png",
+            "assets/Zahnrad4.png",
+            "assets/ZahnradKlein.png",
+            "assets/rechtesBullauge.png",
+            "assets/mittleresBullauge.png",
+            "assets/linkesBullauge.png",
+            "assets/Hebel.png",
+            "assets/MessingTafel.png"
+    );
+
+    // -Dzeitmaschine.startupStats=true -> Startzeiten auf stderr ausgeben
+    private static final boolean REPORT = Boolean.getBoolean("zeitmaschine.startupStats");
+
+    private static final Map<String, CompletableFuture<BufferedImage>> FUTURES = new LinkedHashMap<>();
+    private static long startNanos;
+
+    public static synchronized void start() {
+        if (!FUTURES.isEmpty()) return;
+
+        startNanos = System.nanoTime();
+        ExecutorService pool = Executors.newVirtualThreadPerTaskExecutor();
+        for (String path : MACHINE_ASSETS) {
+            FUTURES.put(path, CompletableFuture.supplyAsync(() -> ImageLoader.loadOptional(path), pool));
+        }
+        // Keine neuen Aufgaben mehr; laufende Dekodierungen werden noch fertig
+        pool.shutdown();
+
+        if (REPORT) {
+            CompletableFuture.allOf(FUTURES.values().toArray(new CompletableFuture<?>[0]))
+                    .whenComplete((v, ex) -> report());
+        }
+    }
+
+    /**
+     * Liefert das vorgeladene Bild oder lädt es synchron, falls es nicht vorgeladen wurde.
+     * Wirft wie {@link ImageLoader#loadOrThrow(String)}, wenn das Bild fehlt.
+     */
+    public static BufferedImage await(String path) {
+        CompletableFuture<BufferedImage> f;
+        synchronized (AssetPreloader.class) {
+            f = FUTURES.get(path);
+        }
+        if (f == null) return ImageLoader.loadOrThrow(path);
+
+        BufferedImage img = f.join();
+        if (img == null) throw new IllegalStateException("Bild nicht gefunden/lesbar: " + path);
+        return img;
+    }
+
+    private static void report() {
+        double wallMs = (System.nanoTime() - startNanos) / 1_000_000.0;
+
+        double sumMs = 0;
+        for (Map.Entry<String, Double> e : ImageLoader.decodeTimesMillis().entrySet()) {
+            if (MACHINE_ASSETS.contains(e.getKey())) sumMs += e.getValue();
+        }
+
+        System.err.printf("[AssetPreloader] %d Assets: %.1f ms Wanduhr, %.1f ms Summe einzeln (%d Kerne)%n",
+                MACHINE_ASSETS.size(), wallMs, sumMs, Runtime.getRuntime().availableProcessors());
+    }
+}
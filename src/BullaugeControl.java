@@ -1,3 +1,5 @@
+import metrics.PaintProbe;
+
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.MouseAdapter;
@@ -5,6 +7,8 @@ import java.awt.event.MouseEvent;
 import java.awt.event.MouseWheelEvent;
 import java.awt.geom.Ellipse2D;
 import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.IntConsumer;
 
@@ -25,6 +29,17 @@ public class BullaugeControl extends JComponent {
     private int flipTo;
     private double flipProgress;
 
+    // Wheel-Coalescing: Schritte eines Frames sammeln
+    private static final int COALESCE_MS = 16;
+    private final Timer coalesceTimer;
+    private int pendingSteps;
+    private double wheelRemainder;
+
+    // Zahnrad-Drehung, die über den laufenden Flip verteilt wird
+    private int gearDeltaTotal;
+    private int gearDeltaEmitted;
+    private double gearProgressBase;
+
     private int windowWpx = 90;
     private int windowHpx = 90;
 
@@ -33,6 +48,38 @@ public class BullaugeControl extends JComponent {
 
     private float fontRel = 0.30f;
 
+    // ===== Render-Caches =====
+    // Rahmen + Fenster als ein Bild (abhängig von Größe/Fenster-Parametern)
+    private BufferedImage base;
+    private BufferedImage shadeDisc;
+    private int cachedW = -1;
+    private int cachedH = -1;
+    private int cachedDiameter = -1;
+    private double renderScale = 1.0;
+
+    // Zifferblätter je (Wert, Durchmesser in Gerätepixeln, Formatierung) als LRU
+    private static final int MAX_FACES = 48;
+    private final Map<Long, BufferedImage> faces = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, BufferedImage> eldest) {
+            return size() > MAX_FACES;
+        }
+    };
+
+    // beim Flip-Start aufgelöst, damit die Animationsframes nichts nachschlagen müssen
+    private BufferedImage fromFace;
+    private BufferedImage toFace;
+    private BufferedImage restFace;
+    private int restValue;
+
+    private static final String[] TWO_DIGITS = new String[100];
+
+    static {
+        for (int i = 0; i < TWO_DIGITS.length; i++) {
+            TWO_DIGITS[i] = (i < 10 ? "0" : "") + i;
+        }
+    }
+
     public BullaugeControl(BufferedImage frameImage, FlipNumberDisplay display) {
         this.frameImage = frameImage;
         this.display = Objects.requireNonNull(display);
@@ -42,40 +89,31 @@ public class BullaugeControl extends JComponent {
         flipFrom = display.getValue();
         flipTo = display.getValue();
 
-        flipTimer = new Timer(1000 / 60, e -> {
-            long now = System.nanoTime();
-            long dt = now - flipStartNanos;
-            flipProgress = Math.min(1.0, dt / (double) FLIP_DURATION_NANOS);
-            repaint();
-
-            if (flipProgress >= 1.0) {
-                flipping = false;
-                ((Timer) e.getSource()).stop();
+        flipTimer = new Timer(1000 / 60, e -> flipFrame());
 
-                // Neu: Nach der Animation den "stehenden" Wert aktualisieren
-                flipFrom = flipTo;
-
-                repaint();
-            }
-        });
+        // Alle Schritte eines Frames sammeln und einmal anwenden
+        coalesceTimer = new Timer(COALESCE_MS, e -> flushPendingSteps());
+        coalesceTimer.setRepeats(false);
 
         MouseAdapter mouse = new MouseAdapter() {
             @Override
             public void mouseWheelMoved(MouseWheelEvent e) {
-                int notches = e.getWheelRotation();
-                int step = -notches * STEPS_PER_NOTCH;
-                if (e.isShiftDown()) step *= FAST_MULTIPLIER;
-
-                if (step != 0) {
-                    applyStep(step);
-                    e.consume();
-                }
+                // Präzise Rotation aufsummieren, damit auch feine Trackpad-Events zählen
+                double steps = -e.getPreciseWheelRotation() * STEPS_PER_NOTCH;
+                if (e.isShiftDown()) steps *= FAST_MULTIPLIER;
+
+                wheelRemainder += steps;
+                int step = (int) wheelRemainder;
+                wheelRemainder -= step;
+
+                if (step != 0) queueStep(step);
+                e.consume();
             }
 
             @Override
             public void mouseClicked(MouseEvent e) {
                 int step = SwingUtilities.isRightMouseButton(e) ? -1 : 1;
-                applyStep(step);
+                queueStep(step);
             }
         };
 
@@ -86,155 +124,316 @@ public class BullaugeControl extends JComponent {
     public void setWindowSizePx(int widthPx, int heightPx) {
         this.windowWpx = Math.max(1, widthPx);
         this.windowHpx = Math.max(1, heightPx);
+        base = null;
         repaint();
     }
 
     public void setWindowOffsetFromCenterPx(int offsetXpx, int offsetYpx) {
         this.windowOffsetXpx = offsetXpx;
         this.windowOffsetYpx = offsetYpx;
+        base = null;
         repaint();
     }
 
     public void setWindowStyle(int ignoredArc, float fontHeightFactor) {
         this.fontRel = fontHeightFactor;
+        invalidateFaces();
         repaint();
     }
 
+    @Override
+    public void setFont(Font font) {
+        super.setFont(font);
+        if (faces != null) invalidateFaces();
+    }
+
     public void setOnStep(IntConsumer onStep) {
         this.onStep = onStep;
     }
 
+    public boolean isFlipping() {
+        return flipping;
+    }
+
     public FlipNumberDisplay getDisplay() {
         return display;
     }
 
+    /**
+     * Ein Animationsframe ohne Swing-Timer (virtueller Takt, siehe {@link AnimationClock}):
+     * gesammelte Mausrad-Schritte anwenden und den laufenden Flip fortschreiben.
+     */
+    public void advanceAnimation() {
+        flushPendingSteps();
+        if (flipping) flipFrame();
+    }
+
+    private void flipFrame() {
+        long dt = AnimationClock.nanoTime() - flipStartNanos;
+        flipProgress = Math.min(1.0, dt / (double) FLIP_DURATION_NANOS);
+        advanceGears(flipProgress);
+        repaint();
+
+        if (flipProgress >= 1.0) {
+            flipping = false;
+            flipTimer.stop();
+
+            // Neu: Nach der Animation den "stehenden" Wert aktualisieren
+            flipFrom = flipTo;
+
+            repaint();
+        }
+    }
+
+    /** Ruhemodus: Timer anhalten (siehe {@link PowerManager}). */
+    public void suspendAnimation() {
+        flipTimer.stop();
+        coalesceTimer.stop();
+    }
+
+    /** Nach dem Ruhemodus: gesammelte Schritte anwenden und den Flip sofort beenden. */
+    public void resumeAnimation() {
+        flushPendingSteps();
+        if (flipping) {
+            flipTimer.stop();
+            flipProgress = 1.0;
+            advanceGears(1.0);
+            flipping = false;
+            flipFrom = flipTo;
+        }
+        repaint();
+    }
+
+    private void queueStep(int step) {
+        pendingSteps += step;
+        if (!coalesceTimer.isRunning() && !PowerManager.isSuspended()) coalesceTimer.start();
+    }
+
+    private void flushPendingSteps() {
+        int delta = pendingSteps;
+        pendingSteps = 0;
+        if (delta != 0) applyStep(delta);
+    }
+
     private void applyStep(int step) {
         int oldValue = display.getValue();
         display.add(step);
         int newValue = display.getValue();
 
-        if (onStep != null) onStep.accept(step);
-
-        if (newValue != oldValue) startFlip(oldValue, newValue);
-        else repaint();
+        if (newValue != oldValue) {
+            // Zahnräder drehen über die Flip-Dauer verteilt statt auf einen Schlag
+            gearDeltaTotal = (gearDeltaTotal - gearDeltaEmitted) + step;
+            gearDeltaEmitted = 0;
+            startFlip(oldValue, newValue);
+        } else {
+            // Anschlag erreicht: Wert bleibt, Zahnräder dürfen trotzdem nachdrehen
+            if (flipping) {
+                gearDeltaTotal += step;
+            } else if (onStep != null) {
+                onStep.accept(step);
+            }
+            repaint();
+        }
     }
 
-    private void startFlip(int from, int to) {
+    /**
+     * Fast-Seek: Läuft schon ein Flip, wird er nicht neu gestartet, sondern nur auf den
+     * Endwert umgelenkt. Solange noch die alte Ziffer oben steht, tauschen wir nur das Ziel;
+     * danach flippt es einmal vom gerade sichtbaren Wert direkt zum Endwert.
+     */
+    private void startFlip(int oldValue, int to) {
+        if (flipping && flipProgress < 0.5) {
+            flipTo = to;
+            toFace = face(to);
+            gearProgressBase = flipProgress;
+            return;
+        }
+
+        int from = flipping ? flipTo : oldValue;
         flipFrom = from;
         flipTo = to;
+        fromFace = face(from);
+        toFace = face(to);
         flipping = true;
         flipProgress = 0.0;
-        flipStartNanos = System.nanoTime();
+        gearProgressBase = 0.0;
+        flipStartNanos = AnimationClock.nanoTime();
 
         if (flipTimer.isRunning()) flipTimer.stop();
         flipTimer.start();
     }
 
+    private void advanceGears(double progress) {
+        double frac = (progress - gearProgressBase) / (1.0 - gearProgressBase);
+        int due = (int) Math.round(gearDeltaTotal * Math.max(0.0, Math.min(1.0, frac)));
+        int inc = due - gearDeltaEmitted;
+        if (inc == 0) return;
+
+        gearDeltaEmitted = due;
+        if (onStep != null) onStep.accept(inc);
+    }
+
     @Override
     protected void paintComponent(Graphics g) {
-        super.paintComponent(g);
+        PaintProbe paint = PaintProbe.start();
+        paintDial(g);
+        paint.done("Bullauge");
+    }
 
-        Graphics2D g2 = (Graphics2D) g.create();
-        try {
-            g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+    private void paintDial(Graphics g) {
+        int w = getWidth();
+        int h = getHeight();
+        if (w <= 0 || h <= 0) return;
 
-            int w = getWidth();
-            int h = getHeight();
+        int diameter = Math.min(windowWpx, windowHpx);
+        ensureCaches(w, h, diameter, ScaledImageCache.deviceScale((Graphics2D) g));
 
-            if (frameImage != null) {
-                g2.drawImage(frameImage, 0, 0, w, h, null);
-            } else {
-                g2.setColor(new Color(40, 40, 40));
-                g2.fillOval(0, 0, w, h);
-            }
+        int winX = w / 2 - diameter / 2 + windowOffsetXpx;
+        int winY = h / 2 - diameter / 2 + windowOffsetYpx;
 
-            int centerX = w / 2;
-            int centerY = h / 2;
+        // Rahmen + dunkles Fenster + Mittellinie: ein Blit (Caches liegen in Gerätepixeln vor)
+        g.drawImage(base, 0, 0, w, h, null);
+        int fd = shadeDisc.getWidth();
 
-            int diameter = Math.min(windowWpx, windowHpx);
-            int winX = centerX - diameter / 2 + windowOffsetXpx;
-            int winY = centerY - diameter / 2 + windowOffsetYpx;
+        // Neu: Im Ruhezustand immer den aktuellen Display-Wert anzeigen
+        if (!flipping) {
+            int value = display.getValue();
+            if (restFace == null || restValue != value) {
+                restFace = face(value);
+                restValue = value;
+            }
+            g.drawImage(restFace, winX, winY, winX + diameter, winY + diameter, 0, 0, fd, fd, null);
+            return;
+        }
 
-            Ellipse2D circle = new Ellipse2D.Double(winX, winY, diameter, diameter);
+        // Flip-Animation (von -> nach) aus den gecachten Hälften
+        double p = flipProgress;
+        BufferedImage shown = (p < 0.5) ? fromFace : toFace;
+        int half = diameter / 2;
+        int midY = winY + half;
+        int srcHalf = (int) Math.round(half * fd / (double) diameter);
+
+        // obere Hälfte: stehend
+        g.drawImage(shown, winX, winY, winX + diameter, midY, 0, 0, fd, srcHalf, null);
+
+        // untere Hälfte: Klappe, um die Mittellinie vertikal skaliert
+        double localP = (p < 0.5) ? (p / 0.5) : ((p - 0.5) / 0.5);
+        double scaleY = Math.max(0.02, (p < 0.5) ? (1.0 - localP) : localP);
+        int flapBottom = midY + Math.max(1, (int) Math.round((diameter - half) * scaleY));
+
+        Graphics2D g2 = (Graphics2D) g;
+        Composite old = g2.getComposite();
+        float shade = (float) (0.25 + 0.35 * (1.0 - Math.abs(0.5 - p) * 2.0));
+        g2.setComposite(AlphaComposites.srcOver(shade));
+        g2.drawImage(shadeDisc, winX, midY, winX + diameter, flapBottom, 0, srcHalf, fd, fd, null);
+        g2.setComposite(old);
+
+        g.drawImage(shown, winX, midY, winX + diameter, flapBottom, 0, srcHalf, fd, fd, null);
+    }
 
-            g2.setColor(new Color(10, 10, 10, 200));
-            g2.fill(circle);
+    // ===================== Render-Caches =====================
 
-            int midY = winY + diameter / 2;
-            g2.setColor(new Color(255, 255, 255, 40));
-            g2.drawLine(winX + 6, midY, winX + diameter - 6, midY);
+    private void ensureCaches(int w, int h, int diameter, double scale) {
+        if (base != null && cachedW == w && cachedH == h && cachedDiameter == diameter && renderScale == scale) return;
 
-            // Neu: Im Ruhezustand immer den aktuellen Display-Wert anzeigen
-            if (!flipping) {
-                String text = formatValue(display.getValue());
-                float fontSize = Math.max(12f, diameter * fontRel);
-                g2.setFont(getFont().deriveFont(Font.BOLD, fontSize));
-                FontMetrics fm = g2.getFontMetrics();
-
-                int textCenterX = winX + diameter / 2;
-                int textCenterY = winY + diameter / 2;
-                int baseY = textCenterY + (fm.getAscent() - fm.getDescent()) / 2;
-
-                Shape oldClip = g2.getClip();
-                g2.setClip(circle);
-                drawCenteredText(g2, text, textCenterX, baseY);
-                g2.setClip(oldClip);
-                return;
-            }
+        int winX = w / 2 - diameter / 2 + windowOffsetXpx;
+        int winY = h / 2 - diameter / 2 + windowOffsetYpx;
 
-            // Flip-Animation (von -> nach)
-            String fromText = formatValue(flipFrom);
-            String toText = formatValue(flipTo);
+        // HiDPI: Caches direkt in Gerätepixeln rendern, damit das Zeichnen ein 1:1-Blit bleibt
+        int bw = (int) Math.ceil(w * scale);
+        int bh = (int) Math.ceil(h * scale);
 
-            float fontSize = Math.max(12f, diameter * fontRel);
-            g2.setFont(getFont().deriveFont(Font.BOLD, fontSize));
-            FontMetrics fm = g2.getFontMetrics();
+        BufferedImage img = new BufferedImage(bw, bh, BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D g2 = img.createGraphics();
+        try {
+            if (frameImage != null) {
+                g2.drawImage(ScaledImageCache.scaled(frameImage, bw, bh), 0, 0, null);
+            }
+            g2.scale(bw / (double) w, bh / (double) h);
+            if (frameImage == null) {
+                g2.setColor(new Color(40, 40, 40));
+                g2.fillOval(0, 0, w, h);
+            }
 
-            int textCenterX = winX + diameter / 2;
-            int textCenterY = winY + diameter / 2;
-            int baseY = textCenterY + (fm.getAscent() - fm.getDescent()) / 2;
+            g2.setColor(new Color(10, 10, 10, 200));
+            g2.fill(new Ellipse2D.Double(winX, winY, diameter, diameter));
 
-            double p = flipProgress;
-            Shape oldClip = g2.getClip();
+            int midY = winY + diameter / 2;
+            g2.setColor(new Color(255, 255, 255, 40));
+            g2.drawLine(winX + 6, midY, winX + diameter - 6, midY);
+        } finally {
+            g2.dispose();
+        }
+        base = ImageLoader.toCompatible(img);
 
-            Shape topHalf = new Rectangle(winX, winY, diameter, diameter / 2);
-            g2.setClip(topHalf);
-            g2.clip(circle);
-            drawCenteredText(g2, (p < 0.5 ? fromText : toText), textCenterX, baseY);
+        int fd = (int) Math.ceil(diameter * scale);
+        BufferedImage disc = new BufferedImage(fd, fd, BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D gd = disc.createGraphics();
+        try {
+            gd.setColor(Color.BLACK);
+            gd.fill(new Ellipse2D.Double(0, 0, fd, fd));
+        } finally {
+            gd.dispose();
+        }
+        shadeDisc = ImageLoader.toCompatible(disc);
 
-            Shape bottomHalf = new Rectangle(winX, winY + diameter / 2, diameter, diameter / 2);
-            g2.setClip(bottomHalf);
-            g2.clip(circle);
+        cachedW = w;
+        cachedH = h;
+        cachedDiameter = diameter;
+        renderScale = scale;
+        invalidateFaces();
+    }
 
-            Graphics2D gFlip = (Graphics2D) g2.create();
-            try {
-                double localP = (p < 0.5) ? (p / 0.5) : ((p - 0.5) / 0.5);
-                double scaleY = (p < 0.5) ? (1.0 - localP) : (localP);
+    private void invalidateFaces() {
+        faces.clear();
+        restFace = null;
+        if (flipping) {
+            fromFace = face(flipFrom);
+            toFace = face(flipTo);
+        }
+    }
 
-                int pivotY = midY;
+    // Zifferblatt-Fläche eines Wertes (nur Text mit Schatten, auf den Fensterkreis beschnitten)
+    private BufferedImage face(int value) {
+        int diameter = Math.min(windowWpx, windowHpx);
+        boolean padded = isPadded();
+        int fd = (int) Math.ceil(diameter * renderScale);
+        long key = ((long) value << 32) | ((long) fd << 1) | (padded ? 1L : 0L);
 
-                gFlip.translate(0, pivotY);
-                gFlip.scale(1.0, Math.max(0.02, scaleY));
-                gFlip.translate(0, -pivotY);
+        BufferedImage cached = faces.get(key);
+        if (cached != null) return cached;
 
-                float shade = (float) (0.25 + 0.35 * (1.0 - Math.abs(0.5 - p) * 2.0));
-                gFlip.setColor(new Color(0, 0, 0, (int) (255 * shade)));
-                gFlip.fill(circle);
+        BufferedImage img = new BufferedImage(fd, fd, BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D g2 = img.createGraphics();
+        try {
+            g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+            g2.scale(fd / (double) diameter, fd / (double) diameter);
+            g2.setClip(new Ellipse2D.Double(0, 0, diameter, diameter));
 
-                drawCenteredText(gFlip, (p < 0.5 ? fromText : toText), textCenterX, baseY);
-            } finally {
-                gFlip.dispose();
-            }
+            float fontSize = Math.max(12f, diameter * fontRel);
+            Font font = getFont();
+            if (font == null) font = new Font(Font.SANS_SERIF, Font.PLAIN, 12); // noch ohne Parent
+            g2.setFont(font.deriveFont(Font.BOLD, fontSize));
+            FontMetrics fm = g2.getFontMetrics();
 
-            g2.setClip(oldClip);
+            int baseY = diameter / 2 + (fm.getAscent() - fm.getDescent()) / 2;
+            drawCenteredText(g2, formatValue(value, padded), diameter / 2, baseY);
         } finally {
             g2.dispose();
         }
+
+        BufferedImage compatible = ImageLoader.toCompatible(img);
+        faces.put(key, compatible);
+        return compatible;
     }
 
-    private String formatValue(int v) {
+    private boolean isPadded() {
         int current = display.getValue();
-        if (current >= 0 && current <= 31) return String.format("%02d", v);
+        return current >= 0 && current <= 31;
+    }
+
+    private static String formatValue(int v, boolean padded) {
+        if (padded && v >= 0 && v < 100) return TWO_DIGITS[v];
         return String.valueOf(v);
     }
 
@@ -248,4 +447,4 @@ public class BullaugeControl extends JComponent {
         g2.setColor(Color.WHITE);
         g2.drawString(text, x, baseY);
     }
-}
\ No newline at end of file
+}
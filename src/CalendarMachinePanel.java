@@ -1,23 +1,36 @@
 import DayEntriesWindow.DayEntriesWindow;
+import DayEntriesWindow.DayPrefetcher;
+import metrics.Metrics;
+import metrics.PaintProbe;
+import metrics.PaintTimes;
+import metrics.WindowOpenProbe;
 
 import javax.swing.*;
 import java.awt.*;
+import javax.swing.filechooser.FileNameExtensionFilter;
+import java.awt.event.ActionEvent;
+import java.awt.event.InputEvent;
+import java.awt.event.KeyEvent;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public class CalendarMachinePanel extends JPanel {
     private final JLayeredPane layers = new JLayeredPane();
 
     // Hinterste Ebene
-    private final RotatableSprite zeitMaschiene;
+    private final StaticLayer zeitMaschiene;
     private final RotatableSprite zahnrad1;
     private final RotatableSprite zahnrad2;
 
     // Ebene 2: Glaselemente + Zahnräder + Effekte
-    private final RotatableSprite glaselementeMitRohren;
+    private final StaticLayer glaselementeMitRohren;
     private final RotatableSprite zahnrad3;
     private final RotatableSprite zahnrad4;
     private final RotatableSprite zahnrad5;
@@ -27,7 +40,7 @@ public class CalendarMachinePanel extends JPanel {
     private final RotatableSprite zahnrad6;
 
     // Ebene davor
-    private final RotatableSprite zeitMaschieneOhneHebel;
+    private final StaticLayer zeitMaschieneOhneHebel;
 
     // Ebene 4 vorne
     private final BullaugeControl rechtesBullauge;
@@ -47,57 +60,82 @@ public class CalendarMachinePanel extends JPanel {
     private final SteamCloud steamMedium = new SteamCloud();
     private final SteamCloud steamBigFront = new SteamCloud();
 
+    // Diagnose (F3)
+    private final DebugOverlay debugOverlay = new DebugOverlay();
+
+    // Zeitleiste der Hebel-Sequenz (Lichter, Dampf, Fenster)
+    private Timeline leverTimeline;
+    private static final int FLICKER_MS = 2_000;
+
     // Speicher (in RAM)
     private final Map<LocalDate, List<String>> entryStore = new HashMap<>();
 
-    // Neu: für leichtes „Cascading“, damit neue Fenster nicht exakt übereinander liegen
-    private int dayWindowOpenCount = 0;
+    // Einträge des eingestellten Datums schon beim Drehen vorberechnen
+    private final DayPrefetcher dayPrefetcher = new DayPrefetcher(entryStore);
+
+    // Tagesfenster werden wiederverwendet statt bei jedem Hebelzug neu gebaut (lazy, braucht das Hauptfenster)
+    private DayWindowManager dayWindows;
+
+    private Runnable onFirstFrame;
+
+    // .ics-Import läuft (Strg+I)
+    private boolean importing;
+
+    // Store war beim Start vorhanden, aber nicht lesbar (null = gelesen bzw. noch keiner da); dann kein
+    // Import, sonst würde der leere RAM-Stand samt Import die Datei ersetzen
+    private String storeLoadError;
 
     public CalendarMachinePanel() {
         setLayout(new BorderLayout());
         add(layers, BorderLayout.CENTER);
         layers.setLayout(null);
 
-        // gespeicherte Einträge laden
-        entryStore.putAll(EntryStoreIO.loadOrEmpty());
+        // gespeicherte Einträge laden; Schnappschuss fürs Vorberechnen gleich mit anlegen (nicht erst beim Drehen)
+        try {
+            entryStore.putAll(EntryStoreIO.loadOrThrow(EntryStoreIO.defaultFilePath()));
+        } catch (IOException e) {
+            storeLoadError = e.getMessage();
+        }
+        dayPrefetcher.prime();
 
         LocalDate now = LocalDate.now();
 
-        var imgZeitMaschiene = ImageLoader.loadOrThrow("assets/ZeitMaschiene.png");
-        var imgZeitMaschieneOhneHebel = ImageLoader.loadOrThrow("assets/ZeitMaschieneOhneHebel.png");
-        var imgGlas = ImageLoader.loadOrThrow("assets/GlaselementeMitRohren.png");
+        var imgZeitMaschiene = AssetPreloader.await("assets/ZeitMaschiene.png");
+        var imgZeitMaschieneOhneHebel = AssetPreloader.await("assets/ZeitMaschieneOhneHebel.png");
+        var imgGlas = AssetPreloader.await("assets/GlaselementeMitRohren.png");
 
-        zeitMaschiene = new RotatableSprite(imgZeitMaschiene);
+        // Statische Vollbild-Ebenen: einmal geflacht und gecacht statt pro Repaint skaliert
+        zeitMaschiene = new StaticLayer(imgZeitMaschiene);
 
-        zahnrad1 = new RotatableSprite(ImageLoader.loadOrThrow("assets/Zahnrad1.png"));
-        zahnrad2 = new RotatableSprite(ImageLoader.loadOrThrow("assets/Zahnrad2.png"));
+        zahnrad1 = new RotatableSprite(AssetPreloader.await("assets/Zahnrad1.png"));
+        zahnrad2 = new RotatableSprite(AssetPreloader.await("assets/Zahnrad2.png"));
 
-        glaselementeMitRohren = new RotatableSprite(imgGlas);
+        glaselementeMitRohren = new StaticLayer(imgGlas);
 
-        zahnrad3 = new RotatableSprite(ImageLoader.loadOrThrow("assets/Zahnrad3.png"));
-        zahnrad4 = new RotatableSprite(ImageLoader.loadOrThrow("assets/Zahnrad4.png"));
+        zahnrad3 = new RotatableSprite(AssetPreloader.await("assets/Zahnrad3.png"));
+        zahnrad4 = new RotatableSprite(AssetPreloader.await("assets/Zahnrad4.png"));
 
-        var imgZahnradKlein = ImageLoader.loadOrThrow("assets/ZahnradKlein.png");
+        var imgZahnradKlein = AssetPreloader.await("assets/ZahnradKlein.png");
         zahnrad5 = new RotatableSprite(imgZahnradKlein);
         zahnrad6 = new RotatableSprite(imgZahnradKlein);
         zahnrad7 = new RotatableSprite(imgZahnradKlein);
 
-        zeitMaschieneOhneHebel = new RotatableSprite(imgZeitMaschieneOhneHebel);
+        zeitMaschieneOhneHebel = new StaticLayer(imgZeitMaschieneOhneHebel);
 
         rechtesBullauge = new BullaugeControl(
-                ImageLoader.loadOrThrow("assets/rechtesBullauge.png"),
+                AssetPreloader.await("assets/rechtesBullauge.png"),
                 new FlipNumberDisplay(now.getYear(), 0, 9999, FlipNumberDisplay.WrapMode.CLAMP)
         );
         mittleresBullauge = new BullaugeControl(
-                ImageLoader.loadOrThrow("assets/mittleresBullauge.png"),
+                AssetPreloader.await("assets/mittleresBullauge.png"),
                 new FlipNumberDisplay(now.getMonthValue(), 1, 12, FlipNumberDisplay.WrapMode.WRAP)
         );
         linkesBullauge = new BullaugeControl(
-                ImageLoader.loadOrThrow("assets/linkesBullauge.png"),
+                AssetPreloader.await("assets/linkesBullauge.png"),
                 new FlipNumberDisplay(now.getDayOfMonth(), 1, 31, FlipNumberDisplay.WrapMode.WRAP)
         );
 
-        hebel = new LeverControl(ImageLoader.loadOrThrow("assets/Hebel.png"));
+        hebel = new LeverControl(AssetPreloader.await("assets/Hebel.png"));
 
         setPreferredSize(new Dimension(CANVAS_W, CANVAS_H));
 
@@ -107,6 +145,7 @@ public class CalendarMachinePanel extends JPanel {
         final int L2_LAYER3 = 200;
         final int L3_LAYER = 300;
         final int L4_FRONT = 400;   // Ebene 4 (großer Dampf + UI)
+        final int L5_DEBUG = 500;   // Diagnose-Overlay
 
         layers.add(zeitMaschiene, Integer.valueOf(L0_BACK));
         layers.add(zahnrad1, Integer.valueOf(L0_BACK));
@@ -137,10 +176,65 @@ public class CalendarMachinePanel extends JPanel {
         // Ebene 4 Effekt (großer Dampf vorne)
         layers.add(steamBigFront, Integer.valueOf(L4_FRONT));
 
+        // Diagnose ganz oben
+        layers.add(debugOverlay, Integer.valueOf(L5_DEBUG));
+        debugOverlay.addLine(this::animationStats);
+        debugOverlay.addLine(this::dayWindowStats);
+        debugOverlay.addLine(this::storeStats);
+        getInputMap(WHEN_IN_FOCUSED_WINDOW).put(KeyStroke.getKeyStroke(KeyEvent.VK_F3, 0), "toggleDebugOverlay");
+        getActionMap().put("toggleDebugOverlay", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                debugOverlay.toggle();
+            }
+        });
+        getInputMap(WHEN_IN_FOCUSED_WINDOW).put(KeyStroke.getKeyStroke(KeyEvent.VK_F3, KeyEvent.SHIFT_DOWN_MASK), "dumpMetrics");
+        getActionMap().put("dumpMetrics", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                Metrics.dump(System.err);
+            }
+        });
+
+        // Termine aus anderen Kalendern übernehmen
+        getInputMap(WHEN_IN_FOCUSED_WINDOW).put(KeyStroke.getKeyStroke(KeyEvent.VK_I, InputEvent.CTRL_DOWN_MASK), "importIcs");
+        getActionMap().put("importIcs", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                importIcs();
+            }
+        });
+
+        // Ruhemodus: Dial-Animationen und Split-Flaps offener Tagesfenster anhalten
+        registerSuspendable(rechtesBullauge);
+        registerSuspendable(mittleresBullauge);
+        registerSuspendable(linkesBullauge);
+        PowerManager.register(new PowerManager.Suspendable() {
+            @Override
+            public void suspend() {
+                forEachDayWindow(DayEntriesWindow::suspendAnimations);
+            }
+
+            @Override
+            public void resume() {
+                forEachDayWindow(DayEntriesWindow::resumeAnimations);
+            }
+        });
+
+        // Effekt-Qualität folgt dem Frame-Budget (FrameMonitor)
+        EffectQuality.addListener(this::applyEffectQuality);
+        applyEffectQuality(EffectQuality.current());
+
+        // Dampfdüsen: klein/mittel hinter den Glaselementen, große Wolke vorne
+        steamSmall.setEmitter(new SteamCloud.Emitter(0.5f, 0.85f, 0.8f, 0.7f, 0.25f, 70, 0.45f, 0));
+        steamMedium.setEmitter(new SteamCloud.Emitter(0.5f, 0.80f, 1.2f, 0.8f, 0.30f, 80, 0.40f, 0));
+        steamBigFront.setEmitter(new SteamCloud.Emitter(0.5f, 0.75f, 2.0f, 1.0f, 0.40f, 90, 0.35f, 0));
+
         // Mechanik
         rechtesBullauge.setOnStep(step -> {
             rotateGearPair(zahnrad1, zahnrad2, step, 6.0);
             normalizeDayToMonth();
+            prefetchSelectedDay();
         });
 
         mittleresBullauge.setOnStep(step -> {
@@ -148,16 +242,163 @@ public class CalendarMachinePanel extends JPanel {
             rotateGear(zahnrad4, -step, 7.0);
             rotateGear(zahnrad5, step, 5.0);
             normalizeDayToMonth();
+            prefetchSelectedDay();
         });
 
-        linkesBullauge.setOnStep(step -> rotateGearPair(zahnrad6, zahnrad7, step, 6.0));
+        linkesBullauge.setOnStep(step -> {
+            rotateGearPair(zahnrad6, zahnrad7, step, 6.0);
+            prefetchSelectedDay();
+        });
 
         // Startsequenz bei Hebel unten
-        hebel.setOnLatchedBottom(this::startLeverSequence);
+        hebel.setOnLatchedBottom(() -> {
+            WindowOpenProbe.latched();
+            startLeverSequence();
+        });
 
         normalizeDayToMonth();
     }
 
+    @Override
+    public void paint(Graphics g) {
+        PaintProbe paint = PaintProbe.start();
+        long t0 = System.nanoTime();
+        super.paint(g);
+        FrameMonitor.record(System.nanoTime() - t0);
+        paint.done("Maschine");
+        PaintTimes.endFrame();
+
+        if (onFirstFrame != null) {
+            Runnable r = onFirstFrame;
+            onFirstFrame = null;
+            r.run();
+        }
+    }
+
+    /** Einmal nach dem nächsten gezeichneten Frame ausführen (Startzeit-Messung, siehe {@link AppCds}). */
+    void onFirstFrame(Runnable r) {
+        onFirstFrame = r;
+    }
+
+    private void applyEffectQuality(EffectQuality q) {
+        light1.setGlowHalo(q.glowHalo);
+        light2.setGlowHalo(q.glowHalo);
+        light3.setGlowHalo(q.glowHalo);
+
+        steamSmall.setParticleBudget(q.steamParticles);
+        steamMedium.setParticleBudget(q.steamParticles);
+        steamBigFront.setParticleBudget(q.steamParticles);
+
+        forEachDayWindow(d -> d.setRattleAdvancesPerTick(q.flapAdvancesPerTick));
+        repaint();
+    }
+
+    private static void registerSuspendable(BullaugeControl dial) {
+        PowerManager.register(new PowerManager.Suspendable() {
+            @Override
+            public void suspend() {
+                dial.suspendAnimation();
+            }
+
+            @Override
+            public void resume() {
+                dial.resumeAnimation();
+            }
+        });
+    }
+
+    // ===================== Diagnose (Overlay) =====================
+
+    private String animationStats() {
+        int dials = 0;
+        for (BullaugeControl b : new BullaugeControl[]{rechtesBullauge, mittleresBullauge, linkesBullauge}) {
+            if (b.isFlipping()) dials++;
+        }
+        int[] flaps = {0};
+        forEachDayWindow(d -> {
+            if (d.isRattling()) flaps[0]++;
+        });
+        return "Animationen: " + Timeline.runningCount() + " Zeitleisten, " + dials + " Dials, " + flaps[0] + " Flaps";
+    }
+
+    private String dayWindowStats() {
+        if (dayWindows == null) return "Tagesfenster: –";
+        return "Tagesfenster: " + dayWindows.visibleCount() + " offen / " + dayWindows.liveCount() + " lebend";
+    }
+
+    private String storeStats() {
+        int entries = 0;
+        for (List<String> items : entryStore.values()) entries += items.size();
+        return "Store: " + entryStore.size() + " Tage / " + entries + " Einträge";
+    }
+
+    // ===================== Import (.ics) =====================
+
+    private void importIcs() {
+        if (importing) return;
+        if (storeLoadError != null) {
+            JOptionPane.showMessageDialog(this, "Der Store konnte beim Start nicht gelesen werden, Import abgebrochen:\n"
+                    + storeLoadError, "Import", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+
+        JFileChooser chooser = new JFileChooser();
+        chooser.setDialogTitle("Termine importieren");
+        chooser.setFileFilter(new FileNameExtensionFilter("iCalendar (*.ics)", "ics"));
+        if (chooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) return;
+        Path file = chooser.getSelectedFile().toPath();
+
+        importing = true;
+        setCursor(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR));
+
+        // Lesen/Auswerten im Hintergrund; in den Store übernommen wird auf dem EDT
+        CompletableFuture.supplyAsync(() -> {
+            try {
+                return IcsImporter.read(file);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }).whenComplete((imported, error) -> SwingUtilities.invokeLater(() -> finishImport(file, imported, error)));
+    }
+
+    private void finishImport(Path file, IcsImporter imported, Throwable error) {
+        importing = false;
+        setCursor(null);
+
+        if (imported == null) {
+            Throwable cause = error;
+            while (cause.getCause() != null) cause = cause.getCause();
+            JOptionPane.showMessageDialog(this, "Import von " + file.getFileName() + " fehlgeschlagen:\n" + cause.getMessage(),
+                    "Import", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+
+        String saveError = null;
+        if (imported.mergeInto(entryStore) > 0) {
+            dayPrefetcher.invalidate(imported.days());
+            forEachDayWindow(DayEntriesWindow::reloadFromStore);
+            prefetchSelectedDay();
+            // ein Speichern für den ganzen Import
+            try {
+                EntryStoreIO.saveOrThrow(entryStore, EntryStoreIO.defaultFilePath());
+            } catch (IOException e) {
+                saveError = e.getMessage();
+            }
+        }
+
+        if (saveError != null) {
+            JOptionPane.showMessageDialog(this, imported.summary() + "\n\nSpeichern fehlgeschlagen: " + saveError,
+                    "Import " + file.getFileName(), JOptionPane.WARNING_MESSAGE);
+        } else {
+            JOptionPane.showMessageDialog(this, imported.summary(), "Import " + file.getFileName(),
+                    JOptionPane.INFORMATION_MESSAGE);
+        }
+    }
+
+    private void forEachDayWindow(java.util.function.Consumer<DayEntriesWindow> action) {
+        if (dayWindows != null) dayWindows.forEach(action);
+    }
+
     private void normalizeDayToMonth() {
         int year = rechtesBullauge.getDisplay().getValue();
         int month = mittleresBullauge.getDisplay().getValue();
@@ -182,53 +423,38 @@ public class CalendarMachinePanel extends JPanel {
     }
 
     private void startLeverSequence() {
-        // Reset
-        light1.stopFlicker();
-        light2.stopFlicker();
-        light3.stopFlicker();
-        steamSmall.stopSteam();
-        steamMedium.stopSteam();
-        steamBigFront.stopSteam();
-
-        // 1) 3 Lichter nacheinander
-        Timer t1 = new Timer(0, e -> {
-            ((Timer) e.getSource()).stop();
-            light1.startFlicker();
-        });
-        t1.setRepeats(false);
-        t1.start();
+        // Erneutes Ziehen bricht die laufende Sequenz ab (räumt Lichter/Dampf auf) statt parallel zu laufen
+        if (leverTimeline != null) leverTimeline.cancel();
 
-        Timer t2 = new Timer(350, e -> {
-            ((Timer) e.getSource()).stop();
-            light2.startFlicker();
-        });
-        t2.setRepeats(false);
-        t2.start();
+        leverTimeline = new Timeline("Hebel");
 
-        Timer t3 = new Timer(700, e -> {
-            ((Timer) e.getSource()).stop();
-            light3.startFlicker();
-        });
-        t3.setRepeats(false);
-        t3.start();
+        // 1) 3 Lichter nacheinander
+        flickerTrack(leverTimeline, light1, 0);
+        flickerTrack(leverTimeline, light2, 350);
+        flickerTrack(leverTimeline, light3, 700);
 
         // 2) Danach Dampf
-        Timer tSteam = new Timer(1100, e -> {
-            ((Timer) e.getSource()).stop();
-            steamSmall.startSteam();
-            steamMedium.startSteam();
-            steamBigFront.startSteam();
-        });
-        tSteam.setRepeats(false);
-        tSteam.start();
+        steamTrack(leverTimeline, steamSmall, 1100);
+        steamTrack(leverTimeline, steamMedium, 1100);
+        steamTrack(leverTimeline, steamBigFront, 1100);
 
         // 3) Danach Fenster öffnen
-        Timer tWin = new Timer(1600, e -> {
-            ((Timer) e.getSource()).stop();
-            openDayWindowTopRightNextToOwner();
-        });
-        tWin.setRepeats(false);
-        tWin.start();
+        leverTimeline.at(1600, this::openDayWindowTopRightNextToOwner);
+
+        leverTimeline.start();
+    }
+
+    private static void flickerTrack(Timeline t, FlickerLight light, long startMs) {
+        long endMs = startMs + FLICKER_MS;
+        t.span(startMs, endMs, light::startFlicker, light::flickerTick, light::stopFlicker);
+
+        // weich ein- und ausblenden
+        t.tween(startMs, 150, Timeline.Easing.EASE_OUT, v -> light.setEnvelope((float) v));
+        t.tween(endMs - 300, 300, Timeline.Easing.EASE_IN, v -> light.setEnvelope((float) (1.0 - v)));
+    }
+
+    private static void steamTrack(Timeline t, SteamCloud steam, long startMs) {
+        t.until(startMs, steam::startSteam, steam::steamTick, steam::stopSteam);
     }
 
     private void openDayWindowTopRightNextToOwner() {
@@ -239,26 +465,18 @@ public class CalendarMachinePanel extends JPanel {
         Window owner = SwingUtilities.getWindowAncestor(this);
         if (owner == null) return;
 
-        // Jedes Mal ein neues Fenster (mehrere parallel möglich)
-        DayEntriesWindow dayWindow = new DayEntriesWindow(owner, entryStore, () -> EntryStoreIO.save(entryStore));
-
-        int winW = 520;
-        int winH = 260 + 100; // 100px höher
-
-        Point p = owner.getLocationOnScreen();
-        int gap = 12;
-
-        int x = p.x + owner.getWidth() + gap;
-        int y = p.y;
+        if (dayWindows == null) {
+            dayWindows = new DayWindowManager(owner, entryStore, () -> EntryStoreIO.save(entryStore),
+                    ImageLoader.loadOptional("assets/MessingTafel.png"), dayPrefetcher);
+        }
 
-        // leicht versetzt, wenn mehrfach geöffnet
-        int cascade = (dayWindowOpenCount++ % 8) * 24;
-        x += cascade;
-        y += cascade;
+        // versteckte Fenster wiederverwenden, mehrere parallel bis zum Limit
+        WindowOpenProbe.opening(selected);
+        dayWindows.open(selected);
+    }
 
-        dayWindow.setSize(winW, winH);
-        dayWindow.setLocation(x, y);
-        dayWindow.showForDate(selected);
+    private void prefetchSelectedDay() {
+        dayPrefetcher.request(getSelectedDateFromBullauges());
     }
 
     private LocalDate getSelectedDateFromBullauges() {
@@ -352,5 +570,7 @@ public class CalendarMachinePanel extends JPanel {
         steamSmall.setBounds(60, 140, 140, 140);
         steamMedium.setBounds(260, 220, 200, 200);
         steamBigFront.setBounds(150, 250, 360, 360);
+
+        debugOverlay.setBounds(6, 6, 340, 250);
     }
 }
\ No newline at end of file
@@ -0,0 +1,177 @@
+package DayEntriesWindow;
+
+import java.awt.*;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Ermittelt die "Kreide"-Schrift der Tagesfenster einmalig im Hintergrund.
+ *
+ * Die Suche (Fonts instanziieren, {@code canDisplay('ä')} prüfen) ist beim ersten Zugriff
+ * auf die Schriftenliste – vor allem unter Linux – langsam. Das Ergebnis wird deshalb im
+ * Konfigurationsordner gespeichert und bei späteren Starts direkt benutzt, solange sich die
+ * installierten Schriften nicht geändert haben (Fingerabdruck über die Font-Verzeichnisse).
+ *
+ * {@code -Dzeitmaschine.startupStats=true} gibt aus, wie viel Zeit der Cache spart.
+ */
+public final class ChalkFonts {
+    private ChalkFonts() {}
+
+    private static final String[] PREFERRED = {"Segoe Print", "Segoe Script", "Comic Sans MS"};
+
+    private static final String DIR_NAME = ".zeitmaschine-kalender";
+    private static final String FILE_NAME = "chalkfont.properties";
+
+    private static final boolean REPORT = Boolean.getBoolean("zeitmaschine.startupStats");
+
+    private static CompletableFuture<String> family;
+
+    /** Startet die Auflösung auf einem virtuellen Thread (idempotent). */
+    public static synchronized void start() {
+        if (family != null) return;
+        family = CompletableFuture.supplyAsync(ChalkFonts::resolveFamily,
+                r -> Thread.ofVirtual().name("chalk-font").start(r));
+    }
+
+    /** Kreideschrift in der gewünschten Größe; wartet ggf. auf die Hintergrund-Auflösung. */
+    public static Font chalkFont(float size) {
+        CompletableFuture<String> f;
+        synchronized (ChalkFonts.class) {
+            if (family == null) start();
+            f = family;
+        }
+        return new Font(f.join(), Font.PLAIN, Math.round(size)).deriveFont(size);
+    }
+
+    // ===================== Auflösung =====================
+
+    private static String resolveFamily() {
+        long t0 = System.nanoTime();
+        String fingerprint = fingerprint();
+
+        Properties cached = readCache();
+        String cachedFamily = cached.getProperty("family");
+        if (cachedFamily != null && fingerprint.equals(cached.getProperty("fingerprint"))) {
+            if (REPORT) {
+                System.err.printf("[ChalkFonts] '%s' aus Cache in %.1f ms (Suche dauerte %s ms)%n",
+                        cachedFamily, (System.nanoTime() - t0) / 1_000_000.0,
+                        cached.getProperty("discoveryMs", "?"));
+            }
+            return cachedFamily;
+        }
+
+        String found = discover();
+        double discoveryMs = (System.nanoTime() - t0) / 1_000_000.0;
+
+        Properties p = new Properties();
+        p.setProperty("family", found);
+        p.setProperty("fingerprint", fingerprint);
+        p.setProperty("discoveryMs", String.format(java.util.Locale.ROOT, "%.1f", discoveryMs));
+        writeCache(p);
+
+        if (REPORT) {
+            System.err.printf("[ChalkFonts] '%s' gesucht in %.1f ms%n", found, discoveryMs);
+        }
+        return found;
+    }
+
+    private static String discover() {
+        for (String name : PREFERRED) {
+            Font f = new Font(name, Font.PLAIN, 22);
+            if (f.canDisplay('ä') && f.canDisplay('ß')) {
+                if (f.getFamily().equalsIgnoreCase(name)
+                        || f.getFontName().toLowerCase().contains(name.toLowerCase())) {
+                    return name;
+                }
+            }
+        }
+        return Font.SANS_SERIF;
+    }
+
+    // Änderungszeiten der Font-Verzeichnisse (inkl. direkter Unterordner) + Java-Version
+    private static String fingerprint() {
+        StringBuilder sb = new StringBuilder(System.getProperty("java.version", ""));
+        for (Path dir : fontDirectories()) {
+            if (!Files.isDirectory(dir)) continue;
+            long latest = lastModified(dir);
+            int subdirs = 0;
+            try (DirectoryStream<Path> ds = Files.newDirectoryStream(dir)) {
+                for (Path sub : ds) {
+                    if (Files.isDirectory(sub)) {
+                        latest = Math.max(latest, lastModified(sub));
+                        subdirs++;
+                    }
+                }
+            } catch (IOException ignored) {
+                // nicht lesbar -> nur das Verzeichnis selbst zählt
+            }
+            sb.append('|').append(dir).append('@').append(latest).append('/').append(subdirs);
+        }
+        return Integer.toHexString(sb.toString().hashCode());
+    }
+
+    private static List<Path> fontDirectories() {
+        String home = System.getProperty("user.home");
+        List<Path> dirs = new ArrayList<>();
+
+        String windir = System.getenv("WINDIR");
+        if (windir != null) dirs.add(Paths.get(windir, "Fonts"));
+        String localAppData = System.getenv("LOCALAPPDATA");
+        if (localAppData != null) dirs.add(Paths.get(localAppData, "Microsoft", "Windows", "Fonts"));
+
+        dirs.add(Paths.get("/Library/Fonts"));
+        dirs.add(Paths.get("/System/Library/Fonts"));
+        dirs.add(Paths.get(home, "Library", "Fonts"));
+
+        dirs.add(Paths.get("/usr/share/fonts"));
+        dirs.add(Paths.get("/usr/local/share/fonts"));
+        dirs.add(Paths.get(home, ".fonts"));
+        dirs.add(Paths.get(home, ".local", "share", "fonts"));
+        return dirs;
+    }
+
+    private static long lastModified(Path p) {
+        try {
+            return Files.getLastModifiedTime(p).toMillis();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    private static Path cacheFile() {
+        return Paths.get(System.getProperty("user.home"), DIR_NAME, FILE_NAME);
+    }
+
+    private static Properties readCache() {
+        Properties p = new Properties();
+        Path file = cacheFile();
+        if (!Files.exists(file)) return p;
+        try (InputStream in = Files.newInputStream(file)) {
+            p.load(in);
+        } catch (IOException ignored) {
+            // defekter Cache -> neu suchen
+        }
+        return p;
+    }
+
+    private static void writeCache(Properties p) {
+        Path file = cacheFile();
+        try {
+            Files.createDirectories(file.getParent());
+            try (OutputStream out = Files.newOutputStream(file)) {
+                p.store(out, "Zeitmaschine Kalender - Kreideschrift");
+            }
+        } catch (IOException ignored) {
+            // ohne Cache wird beim nächsten Start erneut gesucht
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package DayEntriesWindow;
 
+import DayEntriesWindow.DayOccurrences.Occurrence;
+
 import javax.imageio.ImageIO;
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
@@ -8,7 +10,6 @@ import java.awt.event.*;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
-import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
@@ -35,7 +36,10 @@ public class DayEntriesWindow extends JDialog {
     private String selectedOriginalText = "";
 
     // Aktuell angezeigte 6 Zeilen inkl. Verweis auf die Original-Quelle im Store
-    private final List<EntryRef> lastShown = new ArrayList<>();
+    private final List<Occurrence> lastShown = new ArrayList<>();
+
+    // Optional: im Hintergrund vorberechnete Einträge (null = immer direkt berechnen)
+    private DayPrefetcher prefetcher;
 
     // Kontextmenü: Wiederholung ändern
     private final JPopupMenu repeatMenu = new JPopupMenu();
@@ -43,34 +47,16 @@ public class DayEntriesWindow extends JDialog {
     private final java.util.EnumMap<RepeatMode, JRadioButtonMenuItem> repeatItems =
             new java.util.EnumMap<>(RepeatMode.class);
 
-    private enum RepeatMode {
-        NONE("Keine", ""),
-        YEARLY("Jährlich", "[R:YEAR]"),
-        WEEKDAYS("Mo–Fr", "[R:WKD]"),
-        MONTHLY("Monatlich", "[R:MON]");
-
-        final String label;
-        final String prefix;
-
-        RepeatMode(String label, String prefix) {
-            this.label = label;
-            this.prefix = prefix;
-        }
-    }
-
-    private static final class EntryRef {
-        final LocalDate originDate;
-        final int originIndex;
-        final String storedText;
-
-        private EntryRef(LocalDate originDate, int originIndex, String storedText) {
-            this.originDate = originDate;
-            this.originIndex = originIndex;
-            this.storedText = storedText;
-        }
+    public DayEntriesWindow(Window owner, Map<LocalDate, List<String>> entryStore, Runnable onStoreChanged) {
+        this(owner, entryStore, onStoreChanged, tryLoadImageFile("assets/MessingTafel.png"));
     }
 
-    public DayEntriesWindow(Window owner, Map<LocalDate, List<String>> entryStore, Runnable onStoreChanged) {
+    /**
+     * @param brassBackground bereits geladenes Hintergrundbild (z.B. aus dem Asset-Cache),
+     *                        damit nicht jedes neue Fenster die PNG erneut von der Platte liest
+     */
+    public DayEntriesWindow(Window owner, Map<LocalDate, List<String>> entryStore, Runnable onStoreChanged,
+                            BufferedImage brassBackground) {
         super(owner, "Einträge", ModalityType.MODELESS);
         this.entryStore = entryStore;
         this.onStoreChanged = (onStoreChanged != null) ? onStoreChanged : () -> {};
@@ -81,9 +67,28 @@ public class DayEntriesWindow extends JDialog {
             public void windowClosing(WindowEvent e) {
                 DayEntriesWindow.this.onStoreChanged.run();
             }
+
+            @Override
+            public void windowIconified(WindowEvent e) {
+                flap.pauseRattle();
+            }
+
+            @Override
+            public void windowDeiconified(WindowEvent e) {
+                flap.finishRattle();
+            }
+        });
+
+        // Versteckt (HIDE_ON_CLOSE) -> keine Animation mehr im Hintergrund
+        addComponentListener(new ComponentAdapter() {
+            @Override
+            public void componentHidden(ComponentEvent e) {
+                flap.finishRattle();
+            }
         });
 
-        chalkFont = pickChalkFont(22f);
+        // im Hintergrund aufgelöst und zwischen Starts gecacht (siehe ChalkFonts)
+        chalkFont = ChalkFonts.chalkFont(22f);
 
         // ===== Eingabe + Buttons =====
         input.setFont(chalkFont.deriveFont(18f));
@@ -154,8 +159,7 @@ public class DayEntriesWindow extends JDialog {
         bottom.add(buttons, BorderLayout.EAST);
 
         // ===== Hintergrund =====
-        BufferedImage brass = tryLoadImageFile("assets/MessingTafel.png");
-        JPanel root = new BrassBackgroundPanel(brass);
+        JPanel root = new BrassBackgroundPanel(brassBackground);
         root.setLayout(new BorderLayout(12, 12));
         root.setBorder(new EmptyBorder(14, 14, 14, 14));
 
@@ -236,10 +240,10 @@ public class DayEntriesWindow extends JDialog {
     }
 
     private void updateRepeatMenuChecks() {
-        EntryRef ref = getSelectedRef();
+        Occurrence ref = getSelectedRef();
         boolean enabled = (ref != null);
 
-        RepeatMode current = enabled ? detectRepeatModeFromStored(ref.storedText) : RepeatMode.NONE;
+        RepeatMode current = enabled ? RepeatMode.detect(ref.storedText()) : RepeatMode.NONE;
 
         for (RepeatMode m : RepeatMode.values()) {
             JRadioButtonMenuItem it = repeatItems.get(m);
@@ -251,15 +255,16 @@ public class DayEntriesWindow extends JDialog {
     }
 
     private void changeRepeatModeOfSelected(RepeatMode newMode) {
-        EntryRef ref = getSelectedRef();
+        Occurrence ref = getSelectedRef();
         if (ref == null) return;
 
-        List<String> items = entryStore.get(ref.originDate);
-        if (items == null || ref.originIndex < 0 || ref.originIndex >= items.size()) return;
+        List<String> items = entryStore.get(ref.originDate());
+        if (items == null || ref.originIndex() < 0 || ref.originIndex() >= items.size()) return;
 
-        String base = stripRepeatPrefixForDisplay(items.get(ref.originIndex));
-        String updatedStored = applyRepeatPrefixForStorage(base, newMode);
-        items.set(ref.originIndex, updatedStored);
+        String base = RepeatMode.strip(items.get(ref.originIndex()));
+        String updatedStored = newMode.applyTo(base);
+        items.set(ref.originIndex(), updatedStored);
+        storeModified(ref.originDate());
 
         // UI aktualisieren (Text im Feld bleibt der Basistext)
         selectedOriginalText = base;
@@ -299,55 +304,14 @@ public class DayEntriesWindow extends JDialog {
         };
     }
 
-    private static String applyRepeatPrefixForStorage(String text, RepeatMode mode) {
-        String t = (text == null) ? "" : text.trim();
-        if (t.isEmpty() || mode == null || mode == RepeatMode.NONE) return t;
-        return mode.prefix + " " + t;
-    }
-
-    private static RepeatMode detectRepeatModeFromStored(String stored) {
-        if (stored == null) return RepeatMode.NONE;
-        String s = stored.stripLeading();
-        if (s.startsWith(RepeatMode.YEARLY.prefix)) return RepeatMode.YEARLY;
-        if (s.startsWith(RepeatMode.WEEKDAYS.prefix)) return RepeatMode.WEEKDAYS;
-        if (s.startsWith(RepeatMode.MONTHLY.prefix)) return RepeatMode.MONTHLY;
-        return RepeatMode.NONE;
-    }
-
-    private static String stripRepeatPrefixForDisplay(String stored) {
-        if (stored == null) return "";
-        String s = stored.stripLeading();
-
-        for (RepeatMode m : RepeatMode.values()) {
-            if (!m.prefix.isEmpty() && s.startsWith(m.prefix)) {
-                return s.substring(m.prefix.length()).stripLeading();
-            }
-        }
-        return stored;
-    }
-
-    private static boolean appliesToDate(RepeatMode mode, LocalDate origin, LocalDate date) {
-        if (mode == null || origin == null || date == null) return false;
-
-        return switch (mode) {
-            case NONE -> false;
-            case YEARLY -> origin.getMonthValue() == date.getMonthValue() && origin.getDayOfMonth() == date.getDayOfMonth();
-            case MONTHLY -> origin.getDayOfMonth() == date.getDayOfMonth();
-            case WEEKDAYS -> {
-                DayOfWeek dow = date.getDayOfWeek();
-                yield dow != DayOfWeek.SATURDAY && dow != DayOfWeek.SUNDAY;
-            }
-        };
-    }
-
     // ===================== Auswahl / Anzeige =====================
 
     private void selectRow(int row, boolean focusEdit) {
         selectedRow = row;
         flap.setSelectedRow(row);
 
-        EntryRef ref = getSelectedRef();
-        String display = (ref == null) ? "" : stripRepeatPrefixForDisplay(ref.storedText);
+        Occurrence ref = getSelectedRef();
+        String display = (ref == null) ? "" : RepeatMode.strip(ref.storedText());
         selectedOriginalText = display;
 
         input.setText(display);
@@ -359,7 +323,7 @@ public class DayEntriesWindow extends JDialog {
         updateButtonsEnabled();
     }
 
-    private EntryRef getSelectedRef() {
+    private Occurrence getSelectedRef() {
         if (selectedRow < 0 || selectedRow >= lastShown.size()) return null;
         return lastShown.get(selectedRow);
     }
@@ -370,52 +334,20 @@ public class DayEntriesWindow extends JDialog {
         deleteButton.setEnabled(hasSelection);
     }
 
-    private void rebuildLastShownForCurrentDate() {
+    private void updateFlapFromStore(boolean animate) {
+        // direkt oder vorberechnet (DayPrefetcher), siehe DayOccurrences
         lastShown.clear();
-        if (currentDate == null) return;
-
-        // 1) direkte Einträge des Tages
-        List<String> direct = entryStore.getOrDefault(currentDate, List.of());
-        for (int i = 0; i < direct.size(); i++) {
-            lastShown.add(new EntryRef(currentDate, i, direct.get(i)));
-        }
-
-        // 2) Wiederholer von anderen Tagen, die auf currentDate zutreffen
-        for (Map.Entry<LocalDate, List<String>> e : entryStore.entrySet()) {
-            LocalDate origin = e.getKey();
-            if (origin == null || origin.equals(currentDate)) continue;
-
-            List<String> items = e.getValue();
-            if (items == null) continue;
-
-            for (int i = 0; i < items.size(); i++) {
-                String stored = items.get(i);
-                RepeatMode mode = detectRepeatModeFromStored(stored);
-                if (mode == RepeatMode.NONE) continue;
-
-                if (appliesToDate(mode, origin, currentDate)) {
-                    lastShown.add(new EntryRef(origin, i, stored));
-                }
-            }
+        if (currentDate != null) {
+            lastShown.addAll(prefetcher != null
+                    ? prefetcher.occurrences(currentDate)
+                    : DayOccurrences.compute(entryStore, currentDate));
         }
 
-        // Nur letzte 6 zeigen
-        if (lastShown.size() > 6) {
-            int from = lastShown.size() - 6;
-            List<EntryRef> tail = new ArrayList<>(lastShown.subList(from, lastShown.size()));
-            lastShown.clear();
-            lastShown.addAll(tail);
-        }
-    }
-
-    private void updateFlapFromStore(boolean animate) {
-        rebuildLastShownForCurrentDate();
-
         StringBuilder sb = new StringBuilder();
         for (int i = 0; i < 6; i++) {
             if (i > 0) sb.append('\n');
             if (i < lastShown.size()) {
-                sb.append(stripRepeatPrefixForDisplay(lastShown.get(i).storedText));
+                sb.append(RepeatMode.strip(lastShown.get(i).storedText()));
             } else {
                 sb.append("");
             }
@@ -442,9 +374,10 @@ public class DayEntriesWindow extends JDialog {
         if (text.isEmpty()) return;
 
         RepeatMode mode = askRepeatMode();
-        String stored = applyRepeatPrefixForStorage(text, mode);
+        String stored = mode.applyTo(text);
 
         entryStore.computeIfAbsent(currentDate, d -> new ArrayList<>()).add(stored);
+        storeModified(currentDate);
 
         input.setText("");
 
@@ -459,20 +392,21 @@ public class DayEntriesWindow extends JDialog {
     }
 
     private void editSelectedInline() {
-        EntryRef ref = getSelectedRef();
+        Occurrence ref = getSelectedRef();
         if (ref == null) return;
 
         String newText = input.getText().trim();
         if (newText.isEmpty()) return;
 
         // Wiederholungsmodus beibehalten
-        RepeatMode mode = detectRepeatModeFromStored(ref.storedText);
-        String newStored = applyRepeatPrefixForStorage(newText, mode);
+        RepeatMode mode = RepeatMode.detect(ref.storedText());
+        String newStored = mode.applyTo(newText);
 
-        List<String> items = entryStore.get(ref.originDate);
-        if (items == null || ref.originIndex < 0 || ref.originIndex >= items.size()) return;
+        List<String> items = entryStore.get(ref.originDate());
+        if (items == null || ref.originIndex() < 0 || ref.originIndex() >= items.size()) return;
 
-        items.set(ref.originIndex, newStored);
+        items.set(ref.originIndex(), newStored);
+        storeModified(ref.originDate());
 
         selectedOriginalText = newText;
 
@@ -483,14 +417,15 @@ public class DayEntriesWindow extends JDialog {
     }
 
     private void deleteSelectedInline() {
-        EntryRef ref = getSelectedRef();
+        Occurrence ref = getSelectedRef();
         if (ref == null) return;
 
-        List<String> items = entryStore.get(ref.originDate);
-        if (items == null || ref.originIndex < 0 || ref.originIndex >= items.size()) return;
+        List<String> items = entryStore.get(ref.originDate());
+        if (items == null || ref.originIndex() < 0 || ref.originIndex() >= items.size()) return;
 
-        items.remove(ref.originIndex);
-        if (items.isEmpty()) entryStore.remove(ref.originDate);
+        items.remove(ref.originIndex());
+        if (items.isEmpty()) entryStore.remove(ref.originDate());
+        storeModified(ref.originDate());
 
         input.setText("");
         selectedOriginalText = "";
@@ -509,6 +444,11 @@ public class DayEntriesWindow extends JDialog {
         onStoreChanged.run();
     }
 
+    // Vorberechnete Einträge sind nach jeder Änderung veraltet
+    private void storeModified(LocalDate day) {
+        if (prefetcher != null) prefetcher.invalidate(day);
+    }
+
     // ===================== Window API =====================
 
     public void showForDate(LocalDate selected) {
@@ -527,6 +467,51 @@ public class DayEntriesWindow extends JDialog {
         requestFocus();
     }
 
+    /** Quelle vorberechneter Einträge; mehrere Fenster auf demselben Store teilen sich einen Prefetcher. */
+    public void setPrefetcher(DayPrefetcher prefetcher) {
+        this.prefetcher = prefetcher;
+    }
+
+    /** Der Store wurde von außen geändert (z.B. Import): angezeigte Einträge neu berechnen. */
+    public void reloadFromStore() {
+        if (currentDate != null) updateFlapFromStore(true);
+    }
+
+    /** Aktuell angezeigtes Datum (null, solange noch nichts gezeigt wurde). */
+    public LocalDate getCurrentDate() {
+        return currentDate;
+    }
+
+    /** Gibt das Fenster frei; der Rattle-Timer darf es danach nicht mehr festhalten. */
+    @Override
+    public void dispose() {
+        flap.finishRattle();
+        repeatMenu.setVisible(false);
+        super.dispose();
+    }
+
+    public boolean isRattling() {
+        return flap.isRattling();
+    }
+
+    /** Animationen anhalten (z.B. Hauptfenster minimiert). */
+    public void suspendAnimations() {
+        flap.pauseRattle();
+    }
+
+    /** Nach einer Pause direkt in den Endzustand springen. */
+    public void resumeAnimations() {
+        flap.finishRattle();
+    }
+
+    /**
+     * Wie viele Zeichen die Fallblattanzeige pro Takt weiterdreht (höher = weniger Zwischenbilder).
+     * Wird bei reduzierter Effekt-Qualität erhöht.
+     */
+    public void setRattleAdvancesPerTick(int advances) {
+        flap.setMaxAdvancesPerTick(advances);
+    }
+
     // ===================== Helpers / UI =====================
 
     private static BufferedImage tryLoadImageFile(String path) {
@@ -552,23 +537,14 @@ public class DayEntriesWindow extends JDialog {
         b.setFocusPainted(false);
     }
 
-    private static Font pickChalkFont(float size) {
-        String[] preferred = {"Segoe Print", "Segoe Script", "Comic Sans MS"};
-        for (String name : preferred) {
-            Font f = new Font(name, Font.PLAIN, Math.round(size));
-            if (f.canDisplay('ä') && f.canDisplay('ß')) {
-                if (f.getFamily().equalsIgnoreCase(name)
-                        || f.getFontName().toLowerCase().contains(name.toLowerCase())) {
-                    return f.deriveFont(size);
-                }
-            }
-        }
-        return new Font(Font.SANS_SERIF, Font.PLAIN, Math.round(size)).deriveFont(size);
-    }
-
     private static final class BrassBackgroundPanel extends JPanel {
         private final BufferedImage bg;
 
+        // Hintergrund inkl. Abdunklung einmal pro Größe/Skalierung vorrendern
+        private BufferedImage scaledBg;
+        private int scaledW = -1;
+        private int scaledH = -1;
+
         private BrassBackgroundPanel(BufferedImage bg) {
             this.bg = bg;
             setOpaque(true);
@@ -581,13 +557,33 @@ public class DayEntriesWindow extends JDialog {
 
             if (bg == null) return;
 
-            Graphics2D g2 = (Graphics2D) g.create();
+            int w = getWidth();
+            int h = getHeight();
+            if (w <= 0 || h <= 0) return;
+
+            // Gerätepixel (HiDPI), damit das Zeichnen ein 1:1-Blit bleibt
+            java.awt.geom.AffineTransform t = ((Graphics2D) g).getTransform();
+            int dw = (int) Math.ceil(w * Math.hypot(t.getScaleX(), t.getShearY()));
+            int dh = (int) Math.ceil(h * Math.hypot(t.getScaleY(), t.getShearX()));
+
+            if (scaledBg == null || scaledW != dw || scaledH != dh) {
+                scaledBg = renderScaled(dw, dh);
+                scaledW = dw;
+                scaledH = dh;
+            }
+            g.drawImage(scaledBg, 0, 0, w, h, null);
+        }
+
+        private BufferedImage renderScaled(int w, int h) {
+            GraphicsConfiguration gc = getGraphicsConfiguration();
+            BufferedImage img = (gc != null)
+                    ? gc.createCompatibleImage(w, h, Transparency.TRANSLUCENT)
+                    : new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB_PRE);
+
+            Graphics2D g2 = img.createGraphics();
             try {
-                g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
                 g2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
-
-                int w = getWidth();
-                int h = getHeight();
                 g2.drawImage(bg, 0, 0, w, h, null);
 
                 g2.setColor(new Color(0, 0, 0, 25));
@@ -595,6 +591,7 @@ public class DayEntriesWindow extends JDialog {
             } finally {
                 g2.dispose();
             }
+            return img;
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,99 @@
+package DayEntriesWindow;
+
+import jdk.jfr.FlightRecorder;
+import metrics.RecurrenceQueryEvent;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Berechnet, welche Einträge an einem Tag angezeigt werden: die direkten Einträge des Tages
+ * plus alle Wiederholer anderer Tage, die auf ihn zutreffen (höchstens die letzten {@link #MAX_ROWS}).
+ * Die Wiederholer sind nach Ursprungstag und Position sortiert – das Ergebnis hängt also nicht von
+ * der Iterationsreihenfolge der Map ab (Schnappschuss und Store liefern dieselben Zeilen).
+ *
+ * Reine Funktion über dem übergebenen Store – darf daher auch auf einem unveränderlichen
+ * Schnappschuss im Hintergrund laufen (siehe {@link DayPrefetcher}).
+ */
+public final class DayOccurrences {
+    private DayOccurrences() {}
+
+    public static final int MAX_ROWS = 6;
+
+    /** Ein angezeigter Eintrag mit Verweis auf seine Quelle im Store. */
+    public record Occurrence(LocalDate originDate, int originIndex, String storedText) {}
+
+    // bewusst ohne Lambda/Methodenreferenz: die Kommandozeile sortiert hier genau einmal, und der
+    // invokedynamic-Bootstrap dafür kostet beim JVM-Start mehr als die ganze Abfrage
+    private static final Comparator<Occurrence> BY_ORIGIN = new Comparator<>() {
+        @Override
+        public int compare(Occurrence a, Occurrence b) {
+            int c = a.originDate().compareTo(b.originDate());
+            return c != 0 ? c : Integer.compare(a.originIndex(), b.originIndex());
+        }
+    };
+
+    public static List<Occurrence> compute(Map<LocalDate, List<String>> store, LocalDate date) {
+        return compute(store, date, MAX_ROWS);
+    }
+
+    /** Wie {@link #compute(Map, LocalDate)}, aber mit eigener Obergrenze (z.B. alle für die Kommandozeile). */
+    public static List<Occurrence> compute(Map<LocalDate, List<String>> store, LocalDate date, int maxRows) {
+        List<Occurrence> shown = new ArrayList<>();
+        if (date == null) return shown;
+
+        // ohne JFR die Event-Klasse gar nicht erst laden
+        RecurrenceQueryEvent event = FlightRecorder.isInitialized() ? new RecurrenceQueryEvent() : null;
+        if (event != null) event.begin();
+        int scanned = 0;
+        int matched = 0;
+
+        // 1) direkte Einträge des Tages
+        List<String> direct = store.getOrDefault(date, List.of());
+        for (int i = 0; i < direct.size(); i++) {
+            shown.add(new Occurrence(date, i, direct.get(i)));
+        }
+
+        // 2) Wiederholer von anderen Tagen, die auf date zutreffen
+        List<Occurrence> repeated = new ArrayList<>();
+        for (Map.Entry<LocalDate, List<String>> e : store.entrySet()) {
+            LocalDate origin = e.getKey();
+            if (origin == null || origin.equals(date)) continue;
+
+            List<String> items = e.getValue();
+            if (items == null) continue;
+
+            scanned += items.size();
+            for (int i = 0; i < items.size(); i++) {
+                String stored = items.get(i);
+                RepeatMode mode = RepeatMode.detect(stored);
+                if (mode == RepeatMode.NONE) continue;
+
+                if (mode.appliesTo(origin, date)) {
+                    repeated.add(new Occurrence(origin, i, stored));
+                    matched++;
+                }
+            }
+        }
+        // feste Reihenfolge statt der der Map, bevor abgeschnitten wird
+        repeated.sort(BY_ORIGIN);
+        shown.addAll(repeated);
+
+        if (event != null) event.end();
+        if (event != null && event.shouldCommit()) {
+            event.date = date.toString();
+            event.scanned = scanned;
+            event.matched = matched;
+            event.commit();
+        }
+
+        // Nur die letzten maxRows zeigen
+        if (shown.size() > maxRows) {
+            return new ArrayList<>(shown.subList(shown.size() - maxRows, shown.size()));
+        }
+        return shown;
+    }
+}
@@ -0,0 +1,150 @@
+package DayEntriesWindow;
+
+import javax.swing.*;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Berechnet die Einträge des gerade eingestellten Datums (und der Nachbartage) schon im
+ * Hintergrund, während die Bullaugen gedreht werden – so liegen sie beim Öffnen des
+ * Tagesfensters bereits vor.
+ *
+ * Gerechnet wird auf einem Schnappschuss des Stores (eigene, unveränderliche Listen je Tag).
+ * Er wird einmal komplett angelegt ({@link #prime()}, am besten direkt nach dem Laden) und danach
+ * nur noch für die geänderten Tage nachgezogen – jede Änderung am Store muss deshalb mit ihrem
+ * Tag über {@link #invalidate(LocalDate)} gemeldet werden; ältere Ergebnisse werden verworfen.
+ * Alle öffentlichen Methoden nur auf dem EDT aufrufen.
+ */
+public final class DayPrefetcher {
+
+    private static final int CACHE_SIZE = 16;
+    private static final int DEBOUNCE_MS = 80;
+
+    // -Dzeitmaschine.prefetchStats=true -> Treffer/Fehlgriffe ausgeben
+    private static final boolean REPORT = Boolean.getBoolean("zeitmaschine.prefetchStats");
+
+    private final Map<LocalDate, List<String>> entryStore;
+
+    private final Map<LocalDate, List<DayOccurrences.Occurrence>> cache =
+            new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<LocalDate, List<DayOccurrences.Occurrence>> eldest) {
+                    return size() > CACHE_SIZE;
+                }
+            };
+
+    private final Timer debounce;
+    private LocalDate pendingDate;
+
+    private int version;
+    // null bis prime(); Hintergrund-Threads lesen, während der EDT einzelne Tage ersetzt
+    private ConcurrentHashMap<LocalDate, List<String>> snapshot;
+
+    private int hits;
+    private int misses;
+
+    public DayPrefetcher(Map<LocalDate, List<String>> entryStore) {
+        this.entryStore = entryStore;
+
+        // Beim schnellen Drehen nur das zuletzt eingestellte Datum rechnen
+        debounce = new Timer(DEBOUNCE_MS, e -> prefetchPending());
+        debounce.setRepeats(false);
+    }
+
+    /** Merkt {@code date} zum Vorberechnen vor (z.B. aus den onStep-Callbacks der Bullaugen). */
+    public void request(LocalDate date) {
+        if (date == null) return;
+        pendingDate = date;
+        debounce.restart();
+    }
+
+    /** Einträge für {@code date}: aus dem Cache oder – falls noch nicht berechnet – sofort. */
+    public List<DayOccurrences.Occurrence> occurrences(LocalDate date) {
+        List<DayOccurrences.Occurrence> cached = cache.get(date);
+        if (cached != null) {
+            hits++;
+            report(date, true);
+            return cached;
+        }
+
+        misses++;
+        report(date, false);
+        List<DayOccurrences.Occurrence> computed = DayOccurrences.compute(entryStore, date);
+        cache.put(date, computed);
+        return computed;
+    }
+
+    /**
+     * Legt den Schnappschuss an (einmal O(Store)); z.B. direkt nach dem Laden, damit das nicht
+     * beim ersten Drehen passiert.
+     */
+    public void prime() {
+        if (snapshot != null) return;
+
+        ConcurrentHashMap<LocalDate, List<String>> copy = new ConcurrentHashMap<>(Math.max(16, entryStore.size() * 2));
+        for (Map.Entry<LocalDate, List<String>> e : entryStore.entrySet()) {
+            if (e.getKey() != null && e.getValue() != null && !e.getValue().isEmpty()) {
+                copy.put(e.getKey(), List.copyOf(e.getValue()));
+            }
+        }
+        snapshot = copy;
+    }
+
+    /**
+     * Die Einträge von {@code day} wurden verändert: Cache verwerfen, laufende Berechnungen
+     * ignorieren, im Schnappschuss nur diesen Tag ersetzen.
+     */
+    public void invalidate(LocalDate day) {
+        version++;
+        cache.clear();
+        if (snapshot != null && day != null) refresh(day);
+    }
+
+    /** Wie {@link #invalidate(LocalDate)} für mehrere Tage (z.B. nach einem Import). */
+    public void invalidate(Collection<LocalDate> days) {
+        version++;
+        cache.clear();
+        if (snapshot == null) return;
+        for (LocalDate day : days) {
+            if (day != null) refresh(day);
+        }
+    }
+
+    private void refresh(LocalDate day) {
+        List<String> items = entryStore.get(day);
+        if (items == null || items.isEmpty()) snapshot.remove(day);
+        else snapshot.put(day, List.copyOf(items));
+    }
+
+    private void prefetchPending() {
+        LocalDate date = pendingDate;
+        pendingDate = null;
+        if (date == null) return;
+
+        prime();
+        Map<LocalDate, List<String>> snap = snapshot;
+        int v = version;
+
+        for (LocalDate d : new LocalDate[]{date, date.minusDays(1), date.plusDays(1)}) {
+            if (cache.containsKey(d)) continue;
+
+            Thread.ofVirtual().name("day-prefetch").start(() -> {
+                List<DayOccurrences.Occurrence> result = DayOccurrences.compute(snap, d);
+                SwingUtilities.invokeLater(() -> {
+                    // Store inzwischen geändert -> Ergebnis ist veraltet
+                    if (v == version) cache.putIfAbsent(d, result);
+                });
+            });
+        }
+    }
+
+    private void report(LocalDate date, boolean hit) {
+        if (!REPORT) return;
+        System.err.printf("[DayPrefetcher] %s %s (Treffer=%d, Fehlgriffe=%d)%n",
+                date, hit ? "aus Cache" : "synchron berechnet", hits, misses);
+    }
+}
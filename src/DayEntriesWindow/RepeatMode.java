@@ -0,0 +1,70 @@
+package DayEntriesWindow;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+/**
+ * Wiederholung eines Eintrags. Gespeichert wird sie als Präfix vor dem Text (z.B. "[R:YEAR] Geburtstag").
+ */
+public enum RepeatMode {
+    NONE("Keine", ""),
+    YEARLY("Jährlich", "[R:YEAR]"),
+    WEEKDAYS("Mo–Fr", "[R:WKD]"),
+    MONTHLY("Monatlich", "[R:MON]");
+
+    final String label;
+    final String prefix;
+
+    RepeatMode(String label, String prefix) {
+        this.label = label;
+        this.prefix = prefix;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    /** Text mit dem Präfix dieses Modus für die Ablage. */
+    public String applyTo(String text) {
+        String t = (text == null) ? "" : text.trim();
+        if (t.isEmpty() || this == NONE) return t;
+        return prefix + " " + t;
+    }
+
+    /** Trifft ein Eintrag vom Tag {@code origin} mit diesem Modus auf {@code date} zu? */
+    public boolean appliesTo(LocalDate origin, LocalDate date) {
+        if (origin == null || date == null) return false;
+
+        return switch (this) {
+            case NONE -> false;
+            case YEARLY -> origin.getMonthValue() == date.getMonthValue() && origin.getDayOfMonth() == date.getDayOfMonth();
+            case MONTHLY -> origin.getDayOfMonth() == date.getDayOfMonth();
+            case WEEKDAYS -> {
+                DayOfWeek dow = date.getDayOfWeek();
+                yield dow != DayOfWeek.SATURDAY && dow != DayOfWeek.SUNDAY;
+            }
+        };
+    }
+
+    public static RepeatMode detect(String stored) {
+        if (stored == null) return NONE;
+        String s = stored.stripLeading();
+        if (s.startsWith(YEARLY.prefix)) return YEARLY;
+        if (s.startsWith(WEEKDAYS.prefix)) return WEEKDAYS;
+        if (s.startsWith(MONTHLY.prefix)) return MONTHLY;
+        return NONE;
+    }
+
+    /** Gespeicherter Text ohne Wiederholungs-Präfix (für die Anzeige). */
+    public static String strip(String stored) {
+        if (stored == null) return "";
+        String s = stored.stripLeading();
+
+        for (RepeatMode m : values()) {
+            if (!m.prefix.isEmpty() && s.startsWith(m.prefix)) {
+                return s.substring(m.prefix.length()).stripLeading();
+            }
+        }
+        return stored;
+    }
+}
@@ -1,5 +1,9 @@
 package DayEntriesWindow;
 
+import metrics.PaintProbe;
+import metrics.WindowOpenEvent;
+import metrics.WindowOpenProbe;
+
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ActionListener;
@@ -44,6 +48,9 @@ public class SplitFlapDisplay extends JComponent {
     // Zähler für die Animationsschritte (Frames)
     private int tick = 0;
 
+    // Messung Hebel -> erster Frame (nur bei laufender JFR-Aufzeichnung gesetzt)
+    private WindowOpenEvent openEvent;
+
     // ===== OPTIK & LAYOUT KONFIGURATION =====
     private int cellW = 22; // Breite eines Zeichens in Pixel
     private int cellH = 30; // Höhe eines Zeichens
@@ -169,6 +176,8 @@ public class SplitFlapDisplay extends JComponent {
                 target[r][c] = normalize(ch); // Sicherstellen, dass das Zeichen im Charset ist
             }
         }
+        WindowOpenEvent pending = WindowOpenProbe.claim();
+        if (pending != null) openEvent = pending;
         startTimer();
     }
 
@@ -180,6 +189,32 @@ public class SplitFlapDisplay extends JComponent {
         startTimer();
     }
 
+    /**
+     * Hält die Animation an (z.B. wenn das Fenster minimiert ist). Der Zustand bleibt erhalten.
+     */
+    public void pauseRattle() {
+        if (timer != null) timer.stop();
+    }
+
+    /**
+     * Springt sofort zum Endzustand: alle Zeichen stehen auf ihrem Ziel, der Timer ist aus.
+     * Gedacht für das Fortsetzen nach einer Pause – niemand hat die Zwischenbilder gesehen.
+     */
+    public void finishRattle() {
+        if (timer != null) {
+            timer.stop();
+            timer = null;
+        }
+        for (int r = 0; r < rows; r++) {
+            System.arraycopy(target[r], 0, current[r], 0, cols);
+        }
+        repaint();
+    }
+
+    public boolean isRattling() {
+        return timer != null && timer.isRunning();
+    }
+
     // Startet den Swing-Timer (ca. 30 FPS -> 33ms Delay)
     private void startTimer() {
         tick = 0;
@@ -188,14 +223,27 @@ public class SplitFlapDisplay extends JComponent {
 
         // Lambda-Ausdruck: Was soll alle 33ms passieren? -> step() aufrufen.
         timer = new Timer(33, e -> step());
+        // erster Schritt sofort, nicht erst nach 33 ms
+        timer.setInitialDelay(0);
         timer.start();
     }
 
+    /**
+     * Ein Animationsschritt von außen statt über den Swing-Timer (z.B. Headless-Harness mit
+     * virtuellem Takt oder Benchmarks).
+     *
+     * @return {@code true}, solange noch Zeichen unterwegs sind
+     */
+    public boolean advanceFrame() {
+        if (timer != null) timer.stop();
+        return step();
+    }
+
     /**
      * Ein einzelner Schritt der Animation (wird vom Timer aufgerufen).
      * Hier wird berechnet, welches Zeichen als nächstes angezeigt wird.
      */
-    private void step() {
+    private boolean step() {
         boolean anyChange = false; // Haben wir noch Arbeit oder sind wir fertig?
 
         for (int r = 0; r < rows; r++) {
@@ -248,6 +296,7 @@ public class SplitFlapDisplay extends JComponent {
             timer.stop();
             timer = null;
         }
+        return anyChange;
     }
 
     // Berechnet die Distanz zwischen zwei Zeichen im Rad (nur vorwärts!)
@@ -340,6 +389,7 @@ public class SplitFlapDisplay extends JComponent {
      */
     @Override
     protected void paintComponent(Graphics g) {
+        PaintProbe paint = PaintProbe.start();
         // Graphics-Objekt kopieren und zu Graphics2D casten für bessere Optionen
         Graphics2D g2 = (Graphics2D) g.create();
         try {
@@ -397,5 +447,11 @@ public class SplitFlapDisplay extends JComponent {
             // WICHTIG: Erzeugte Graphics-Objekte immer entsorgen (Speicherleck-Prävention)
             g2.dispose();
         }
+        paint.done("SplitFlap");
+
+        if (openEvent != null) {
+            openEvent.firstFrame();
+            openEvent = null;
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,233 @@
+import DayEntriesWindow.DayEntriesWindow;
+import DayEntriesWindow.DayPrefetcher;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.awt.image.BufferedImage;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Verwaltet die Tagesfenster ({@link DayEntriesWindow}) eines Hauptfensters.
+ *
+ * Statt bei jedem Hebelzug ein neues Fenster zu bauen, werden versteckte Fenster über
+ * {@link DayEntriesWindow#showForDate(LocalDate)} wiederverwendet. Die Zahl gleichzeitig
+ * lebender Fenster ist begrenzt (ist sie erreicht, wird das am längsten nicht benutzte
+ * Fenster umgelenkt); Fenster, die länger unbenutzt versteckt sind, werden freigegeben.
+ * Schließt das Hauptfenster, werden alle Tagesfenster freigegeben.
+ *
+ * Konfiguration:
+ * <ul>
+ *   <li>{@code -Dzeitmaschine.maxDayWindows} (Standard 4)</li>
+ *   <li>{@code -Dzeitmaschine.dayWindowIdleMs} (Standard 60000)</li>
+ *   <li>{@code -Dzeitmaschine.windowStats=true} gibt Fensterzahl und geschätzten Heap je Fenster aus
+ *       (Zuwachs beim Erzeugen und ersten Zeigen, jeweils nach System.gc() – nur zur Diagnose)</li>
+ * </ul>
+ * Nur auf dem EDT benutzen.
+ */
+public final class DayWindowManager {
+
+    private static final int MAX_WINDOWS = Math.max(1, Integer.getInteger("zeitmaschine.maxDayWindows", 4));
+    private static final long IDLE_MS = Math.max(1_000L, Long.getLong("zeitmaschine.dayWindowIdleMs", 60_000L));
+    private static final boolean REPORT = Boolean.getBoolean("zeitmaschine.windowStats");
+
+    private static final int WIN_W = 520;
+    private static final int WIN_H = 260 + 100; // 100px höher
+    private static final int GAP = 12;
+
+    private final Window owner;
+    private final Map<LocalDate, List<String>> entryStore;
+    private final Runnable onStoreChanged;
+    private final BufferedImage brassBackground;
+    private final DayPrefetcher prefetcher;
+
+    // Reihenfolge der Benutzung: vorne = zuletzt gezeigt
+    private final Deque<DayEntriesWindow> windows = new ArrayDeque<>();
+    private final Map<DayEntriesWindow, Long> hiddenSince = new IdentityHashMap<>();
+
+    private final Timer idleTimer;
+
+    // für leichtes „Cascading“, damit neue Fenster nicht exakt übereinander liegen
+    private int openCount = 0;
+
+    private int created;
+    private int disposed;
+
+    // nur mit REPORT: Heap-Zuwachs der gemessenen neuen Fenster
+    private long measuredBytes;
+    private int measured;
+
+    public DayWindowManager(Window owner, Map<LocalDate, List<String>> entryStore, Runnable onStoreChanged,
+                            BufferedImage brassBackground, DayPrefetcher prefetcher) {
+        this.owner = owner;
+        this.entryStore = entryStore;
+        this.onStoreChanged = onStoreChanged;
+        this.brassBackground = brassBackground;
+        this.prefetcher = prefetcher;
+
+        idleTimer = new Timer((int) Math.min(IDLE_MS / 2, 10_000L), e -> disposeIdle());
+        idleTimer.setRepeats(true);
+
+        // Closing: Schließen per Fensterknopf, Closed: Hauptfenster per dispose() freigegeben
+        owner.addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowClosing(WindowEvent e) {
+                disposeAll();
+            }
+
+            @Override
+            public void windowClosed(WindowEvent e) {
+                disposeAll();
+            }
+        });
+    }
+
+    /**
+     * Zeigt die Einträge für {@code date}: ein Fenster, das dieses Datum schon zeigt, kommt nach vorn;
+     * sonst wird ein verstecktes Fenster wiederverwendet, ein neues gebaut oder – am Limit –
+     * das am längsten nicht benutzte umgelenkt.
+     */
+    public DayEntriesWindow open(LocalDate date) {
+        DayEntriesWindow window = findShowing(date);
+        boolean reposition = false;
+
+        if (window == null) {
+            window = takeHidden();
+            reposition = true;
+        }
+        long heapBefore = -1L;
+        if (window == null && windows.size() < MAX_WINDOWS) {
+            if (REPORT) heapBefore = usedHeapAfterGc();
+            window = create();
+        }
+        if (window == null) {
+            // Limit erreicht: ältestes sichtbares Fenster übernehmen, Position bleibt
+            window = windows.peekLast();
+            reposition = false;
+        }
+
+        windows.remove(window);
+        windows.addFirst(window);
+        hiddenSince.remove(window);
+
+        window.setRattleAdvancesPerTick(EffectQuality.current().flapAdvancesPerTick);
+        if (reposition) placeNextToOwner(window);
+        window.showForDate(date);
+
+        if (heapBefore >= 0) {
+            measuredBytes += Math.max(0L, usedHeapAfterGc() - heapBefore);
+            measured++;
+        }
+        report("open " + date);
+        return window;
+    }
+
+    public void forEach(Consumer<DayEntriesWindow> action) {
+        for (DayEntriesWindow w : new ArrayList<>(windows)) action.accept(w);
+    }
+
+    /** Lebende (nicht freigegebene) Fenster, sichtbar oder versteckt. */
+    public int liveCount() {
+        return windows.size();
+    }
+
+    public int visibleCount() {
+        return windows.size() - hiddenSince.size();
+    }
+
+    /** Alle Fenster sofort freigeben (z.B. beim Beenden). */
+    public void disposeAll() {
+        if (windows.isEmpty()) return;
+        for (DayEntriesWindow w : new ArrayList<>(windows)) release(w);
+        idleTimer.stop();
+        report("disposeAll");
+    }
+
+    // ===================== intern =====================
+
+    private DayEntriesWindow findShowing(LocalDate date) {
+        for (DayEntriesWindow w : windows) {
+            if (w.isVisible() && date.equals(w.getCurrentDate())) return w;
+        }
+        return null;
+    }
+
+    private DayEntriesWindow takeHidden() {
+        // zuletzt versteckt = zuerst wiederverwendet (Caches noch warm)
+        for (DayEntriesWindow w : windows) {
+            if (!w.isVisible()) return w;
+        }
+        return null;
+    }
+
+    private DayEntriesWindow create() {
+        DayEntriesWindow w = new DayEntriesWindow(owner, entryStore, onStoreChanged, brassBackground);
+        w.setSize(WIN_W, WIN_H);
+        w.setPrefetcher(prefetcher);
+        w.addComponentListener(new ComponentAdapter() {
+            @Override
+            public void componentHidden(ComponentEvent e) {
+                // dispose() eines sichtbaren Fensters meldet das Verstecken erst danach – schon freigegeben
+                if (!windows.contains(w)) return;
+                hiddenSince.put(w, System.currentTimeMillis());
+                if (!idleTimer.isRunning()) idleTimer.start();
+                report("hide");
+            }
+        });
+        created++;
+        return w;
+    }
+
+    private void placeNextToOwner(DayEntriesWindow w) {
+        if (!owner.isShowing()) return;
+        Point p = owner.getLocationOnScreen();
+
+        int cascade = (openCount++ % 8) * 24;
+        w.setLocation(p.x + owner.getWidth() + GAP + cascade, p.y + cascade);
+    }
+
+    private void disposeIdle() {
+        long now = System.currentTimeMillis();
+        boolean any = false;
+        for (DayEntriesWindow w : new ArrayList<>(hiddenSince.keySet())) {
+            if (now - hiddenSince.get(w) >= IDLE_MS) {
+                release(w);
+                any = true;
+            }
+        }
+        if (hiddenSince.isEmpty()) idleTimer.stop();
+        if (any) report("idle dispose");
+    }
+
+    private void release(DayEntriesWindow w) {
+        windows.remove(w);
+        hiddenSince.remove(w);
+        w.dispose();
+        disposed++;
+    }
+
+    private void report(String reason) {
+        if (!REPORT) return;
+        long perWindow = (measured > 0) ? measuredBytes / measured : 0L;
+        System.err.printf("[DayWindowManager] %s: live=%d sichtbar=%d erzeugt=%d freigegeben=%d"
+                        + " je Fenster ~%.2f MB, gehalten ~%.2f MB%n",
+                reason, liveCount(), visibleCount(), created, disposed,
+                perWindow / (1024.0 * 1024.0), perWindow * liveCount() / (1024.0 * 1024.0));
+    }
+
+    private static long usedHeapAfterGc() {
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,135 @@
+import metrics.PaintTimes;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Diagnose-Anzeige oben links (F3 schaltet um, oder {@code -Dzeitmaschine.debugOverlay=true}).
+ * Zeigt Effekt-Qualität, Frame-Zeiten und FPS aus {@link FrameMonitor}, die Paint-Zeit je Ebene im
+ * letzten Frame ({@link PaintTimes}), Heap und EDT-Blockaden; das Panel ergänzt eigene Zeilen
+ * über {@link #addLine(Supplier)} (Animationen, Tagesfenster, Store).
+ */
+public class DebugOverlay extends JComponent {
+    private static final Color BG = new Color(0, 0, 0, 160);
+    private static final Color FG = new Color(180, 255, 180);
+    private static final Color WARN = new Color(255, 170, 120);
+    private static final Font FONT = new Font(Font.MONOSPACED, Font.PLAIN, 11);
+
+    private static final int REFRESH_MS = 250;
+
+    // Nur aktualisieren, solange sichtbar – sonst kostet das Overlay nichts
+    private final Timer refresh = new Timer(REFRESH_MS, e -> sample());
+
+    private final List<Supplier<String>> extraLines = new ArrayList<>();
+
+    // FPS aus dem Frame-Zähler zwischen zwei Aktualisierungen (zählt die eigenen Repaints mit)
+    private long sampledFrames = -1;
+    private long sampledAtNanos;
+    private double fps;
+
+    public DebugOverlay() {
+        setOpaque(false);
+        setVisible(Boolean.getBoolean("zeitmaschine.debugOverlay"));
+
+        PowerManager.register(new PowerManager.Suspendable() {
+            @Override
+            public void suspend() {
+                refresh.stop();
+            }
+
+            @Override
+            public void resume() {
+                if (isVisible()) refresh.start();
+            }
+        });
+    }
+
+    /** Zusätzliche Zeile; wird nur bei sichtbarem Overlay abgefragt. */
+    public void addLine(Supplier<String> line) {
+        extraLines.add(line);
+    }
+
+    public void toggle() {
+        setVisible(!isVisible());
+    }
+
+    @Override
+    public void setVisible(boolean visible) {
+        super.setVisible(visible);
+        PaintTimes.setActive(visible);
+        sampledFrames = -1;
+        if (visible) refresh.start();
+        else refresh.stop();
+    }
+
+    @Override
+    public void removeNotify() {
+        refresh.stop();
+        PaintTimes.setActive(false);
+        super.removeNotify();
+    }
+
+    private void sample() {
+        long now = System.nanoTime();
+        long frames = FrameMonitor.frameCount();
+        if (sampledFrames >= 0 && now > sampledAtNanos) {
+            double current = (frames - sampledFrames) * 1e9 / (now - sampledAtNanos);
+            fps = (fps == 0) ? current : fps + 0.5 * (current - fps);
+        }
+        sampledFrames = frames;
+        sampledAtNanos = now;
+        repaint();
+    }
+
+    private List<String> lines() {
+        List<String> lines = new ArrayList<>();
+        lines.add("Qualität: " + EffectQuality.current());
+        lines.add(String.format(Locale.ROOT, "Frame: %.1f ms (Ø %.1f / %.0f ms)  %.0f FPS",
+                FrameMonitor.lastFrameMs(), FrameMonitor.averageFrameMs(), FrameMonitor.budgetMs(), fps));
+
+        for (Map.Entry<String, Double> e : PaintTimes.lastFrameMs().entrySet()) {
+            lines.add(String.format(Locale.ROOT, "  %-11s %6.2f ms", e.getKey(), e.getValue()));
+        }
+
+        for (Supplier<String> s : extraLines) lines.add(s.get());
+
+        Runtime rt = Runtime.getRuntime();
+        long used = rt.totalMemory() - rt.freeMemory();
+        lines.add(String.format(Locale.ROOT, "Heap: %.1f / %.0f MB", used / 1048576.0, rt.maxMemory() / 1048576.0));
+
+        int stalls = EdtWatchdog.stallCount();
+        if (stalls > 0) lines.add("EDT-Blockaden: " + stalls);
+        return lines;
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        List<String> lines = lines();
+
+        Graphics2D g2 = (Graphics2D) g.create();
+        try {
+            g2.setFont(FONT);
+            FontMetrics fm = g2.getFontMetrics();
+            int lineH = fm.getHeight();
+
+            int w = 0;
+            for (String s : lines) w = Math.max(w, fm.stringWidth(s));
+
+            g2.setColor(BG);
+            g2.fillRect(0, 0, w + 12, lineH * lines.size() + 8);
+
+            for (int i = 0; i < lines.size(); i++) {
+                String s = lines.get(i);
+                g2.setColor(s.startsWith("EDT") ? WARN : FG);
+                g2.drawString(s, 6, 4 + fm.getAscent() + i * lineH);
+            }
+        } finally {
+            g2.dispose();
+        }
+    }
+}
@@ -0,0 +1,240 @@
+import javax.swing.*;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Wachhund für den EDT: ein Hintergrund-Thread stellt regelmäßig einen Herzschlag in die
+ * Event-Queue. Kommt er länger als die Schwelle nicht an, ist der EDT blockiert (Store-I/O,
+ * Wiederholer-Scan, Paint …); dann wird sein Stack in Abständen der Schwelle abgetastet und nach
+ * dem Ende der Blockade mit Dauer in ein rollierendes Log geschrieben
+ * ({@code ~/.zeitmaschine-kalender/edt-stalls.log}, dazu bis zu drei ältere Dateien).
+ *
+ * Konfiguration:
+ * <ul>
+ *   <li>{@code -Dzeitmaschine.edtWatchdog=false} schaltet ihn ab</li>
+ *   <li>{@code -Dzeitmaschine.edtStallMs} (Standard 100)</li>
+ *   <li>{@code -Dzeitmaschine.edtStallStats=true} meldet jede Blockade zusätzlich kurz auf stderr</li>
+ * </ul>
+ * Im Ruhemodus ({@link PowerManager}) schläft der Wachhund mit. Da ständig Herzschläge anstehen,
+ * beendet sich AWT nicht von selbst – das Hauptfenster beendet die JVM ohnehin (EXIT_ON_CLOSE).
+ */
+public final class EdtWatchdog {
+
+    private static final boolean ENABLED =
+            Boolean.parseBoolean(System.getProperty("zeitmaschine.edtWatchdog", "true"));
+    private static final long STALL_MS = Math.max(10L, Long.getLong("zeitmaschine.edtStallMs", 100L));
+    private static final boolean REPORT = Boolean.getBoolean("zeitmaschine.edtStallStats");
+
+    private static final String DIR_NAME = ".zeitmaschine-kalender";
+    private static final String FILE_NAME = "edt-stalls.log";
+    private static final long MAX_LOG_BYTES = 256 * 1024;
+    private static final int KEEP_OLD_LOGS = 3;
+
+    // hängt der EDT so lange, wird schon vor dem Ende geschrieben (z.B. Deadlock)
+    private static final long HANG_REPORT_MS = 10_000L;
+    private static final int MAX_SAMPLES = 20;
+    private static final int MAX_FRAMES = 40;
+
+    private static EdtWatchdog instance;
+
+    private final Thread edt;
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final Object lock = new Object();
+
+    private volatile boolean paused;
+
+    // Herzschlag: gesetzt beim Einstellen, gelöscht vom EDT
+    private volatile long postedAtNanos;
+    private volatile boolean outstanding;
+
+    private volatile int stalls;
+
+    private EdtWatchdog(Thread edt) {
+        this.edt = edt;
+    }
+
+    /** Startet den Wachhund (idempotent). Auf dem EDT aufrufen. */
+    public static void start() {
+        if (!ENABLED || instance != null) return;
+        if (!SwingUtilities.isEventDispatchThread()) {
+            SwingUtilities.invokeLater(EdtWatchdog::start);
+            return;
+        }
+
+        EdtWatchdog w = new EdtWatchdog(Thread.currentThread());
+        instance = w;
+
+        PowerManager.register(new PowerManager.Suspendable() {
+            @Override
+            public void suspend() {
+                w.paused = true;
+            }
+
+            @Override
+            public void resume() {
+                w.paused = false;
+                synchronized (w.lock) {
+                    w.lock.notifyAll();
+                }
+            }
+        });
+
+        Thread t = new Thread(w::run, "edt-watchdog");
+        t.setDaemon(true);
+        t.setPriority(Thread.MAX_PRIORITY);
+        t.start();
+    }
+
+    /** Anzahl bisher erkannter Blockaden (für Diagnose). */
+    public static int stallCount() {
+        EdtWatchdog w = instance;
+        return (w == null) ? 0 : w.stalls;
+    }
+
+    // ===================== Wachhund-Thread =====================
+
+    private void run() {
+        long periodMs = Math.max(5L, STALL_MS / 2);
+        try {
+            while (true) {
+                waitWhilePaused();
+                postHeartbeat();
+                Thread.sleep(periodMs);
+
+                if (outstanding && elapsedMs(postedAtNanos) >= STALL_MS) {
+                    watchStall();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void waitWhilePaused() throws InterruptedException {
+        synchronized (lock) {
+            while (paused) lock.wait();
+        }
+    }
+
+    private void postHeartbeat() {
+        if (outstanding) return;
+        outstanding = true;
+        postedAtNanos = System.nanoTime();
+        SwingUtilities.invokeLater(() -> outstanding = false);
+    }
+
+    /** Tastet den EDT ab, bis der Herzschlag ankommt, und schreibt dann den Eintrag. */
+    private void watchStall() throws InterruptedException {
+        long start = postedAtNanos;
+        stalls++;
+
+        List<Sample> samples = new ArrayList<>();
+        boolean reported = false;
+
+        while (outstanding) {
+            long atMs = elapsedMs(start);
+            ThreadInfo info = threads.getThreadInfo(edt.threadId(), MAX_FRAMES);
+            if (info != null) {
+                Sample last = samples.isEmpty() ? null : samples.get(samples.size() - 1);
+                if (last != null && Arrays.equals(last.stack, info.getStackTrace())) {
+                    last.repeats++;
+                } else if (samples.size() < MAX_SAMPLES) {
+                    samples.add(new Sample(atMs, info));
+                }
+            }
+
+            if (!reported && atMs >= HANG_REPORT_MS) {
+                append(entry("hängt seit", atMs, samples));
+                reported = true;
+            }
+            Thread.sleep(STALL_MS);
+        }
+
+        long totalMs = elapsedMs(start);
+        append(entry(reported ? "wieder frei nach" : "blockiert", totalMs, samples));
+        if (REPORT) System.err.printf("[EdtWatchdog] EDT %d ms blockiert (Details in %s)%n", totalMs, logFile());
+    }
+
+    private static long elapsedMs(long sinceNanos) {
+        return (System.nanoTime() - sinceNanos) / 1_000_000L;
+    }
+
+    // ===================== Log =====================
+
+    private static final class Sample {
+        final long atMs;
+        final Thread.State state;
+        final String lockName;
+        final String lockOwner;
+        final StackTraceElement[] stack;
+        int repeats;
+
+        Sample(long atMs, ThreadInfo info) {
+            this.atMs = atMs;
+            this.state = info.getThreadState();
+            this.lockName = info.getLockName();
+            this.lockOwner = info.getLockOwnerName();
+            this.stack = info.getStackTrace();
+        }
+    }
+
+    private static String entry(String what, long ms, List<Sample> samples) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(LocalDateTime.now()).append("  EDT ").append(what).append(' ').append(ms)
+                .append(" ms (Schwelle ").append(STALL_MS).append(" ms)\n");
+
+        for (int i = 0; i < samples.size(); i++) {
+            Sample s = samples.get(i);
+            sb.append("  Probe ").append(i + 1).append(" bei ").append(s.atMs).append(" ms, ").append(s.state);
+            if (s.repeats > 0) sb.append(", unverändert in ").append(s.repeats).append(" weiteren Proben");
+            if (s.lockName != null) {
+                sb.append(", wartet auf ").append(s.lockName);
+                if (s.lockOwner != null) sb.append(" (gehalten von ").append(s.lockOwner).append(')');
+            }
+            sb.append('\n');
+            for (StackTraceElement f : s.stack) sb.append("      at ").append(f).append('\n');
+        }
+        return sb.append('\n').toString();
+    }
+
+    private static Path logFile() {
+        return Paths.get(System.getProperty("user.home"), DIR_NAME, FILE_NAME);
+    }
+
+    private static void append(String text) {
+        Path file = logFile();
+        try {
+            Files.createDirectories(file.getParent());
+            if (Files.exists(file) && Files.size(file) > MAX_LOG_BYTES) rotate(file);
+
+            try (Writer w = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                w.write(text);
+            }
+        } catch (IOException ignored) {
+            // Diagnose darf die Anwendung nicht stören
+        }
+    }
+
+    // edt-stalls.log -> .1 -> .2 -> .3 (älteste fällt weg)
+    private static void rotate(Path file) throws IOException {
+        for (int i = KEEP_OLD_LOGS; i >= 1; i--) {
+            Path src = (i == 1) ? file : file.resolveSibling(FILE_NAME + "." + (i - 1));
+            Path dst = file.resolveSibling(FILE_NAME + "." + i);
+            if (Files.exists(src)) Files.move(src, dst, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Qualitätsstufen der Effekte. {@link FrameMonitor} schaltet automatisch herunter,
+ * wenn das Frame-Budget überschritten wird, und wieder hoch, wenn Luft ist.
+ */
+public enum EffectQuality {
+    //      Dampf-Partikel, Glow-Halo, Antialiasing, Split-Flap-Zeichen pro Takt
+    HIGH(512, true, true, 10),
+    MEDIUM(160, true, true, 16),
+    LOW(60, false, true, 28),
+    MINIMAL(20, false, false, 60);
+
+    public final int steamParticles;
+    public final boolean glowHalo;
+    public final boolean antialias;
+    public final int flapAdvancesPerTick;
+
+    EffectQuality(int steamParticles, boolean glowHalo, boolean antialias, int flapAdvancesPerTick) {
+        this.steamParticles = steamParticles;
+        this.glowHalo = glowHalo;
+        this.antialias = antialias;
+        this.flapAdvancesPerTick = flapAdvancesPerTick;
+    }
+
+    private static volatile EffectQuality current = HIGH;
+    private static final List<Consumer<EffectQuality>> LISTENERS = new ArrayList<>();
+
+    public static EffectQuality current() {
+        return current;
+    }
+
+    /** Nur auf dem EDT aufrufen; Listener werden synchron benachrichtigt. */
+    public static void set(EffectQuality quality) {
+        if (quality == null || quality == current) return;
+        current = quality;
+        for (Consumer<EffectQuality> l : new ArrayList<>(LISTENERS)) l.accept(quality);
+    }
+
+    public static void addListener(Consumer<EffectQuality> listener) {
+        LISTENERS.add(listener);
+    }
+
+    public EffectQuality lower() {
+        return (ordinal() + 1 < values().length) ? values()[ordinal() + 1] : this;
+    }
+
+    public EffectQuality higher() {
+        return (ordinal() > 0) ? values()[ordinal() - 1] : this;
+    }
+}
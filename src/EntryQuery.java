@@ -0,0 +1,227 @@
+import DayEntriesWindow.DayOccurrences;
+import DayEntriesWindow.DayOccurrences.Occurrence;
+import DayEntriesWindow.RepeatMode;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.DateTimeException;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Kommandozeilen-Abfrage ohne GUI: lädt nur den Store, rechnet die Wiederholungen für die
+ * gewünschten Tage aus und gibt das Ergebnis aus. Wird von {@link Main} aufgerufen, bevor
+ * irgendetwas aus AWT/Swing angefasst wird – deshalb hier keine AWT-Klassen benutzen.
+ *
+ * <pre>
+ *   java Main --list [DATUM]        Einträge eines Tages (Standard: heute)
+ *   java Main --range VON BIS       alle Tage mit Einträgen im Zeitraum
+ *   java Main --search TEXT         gespeicherte Einträge, die TEXT enthalten
+ *   java Main --import-ics DATEI    Termine aus einer .ics-Datei übernehmen ({@link IcsImporter})
+ *   --store=DATEI                   anderer Store als ~/.zeitmaschine-kalender/entries.properties
+ * </pre>
+ * Exit-Code: 0 = Einträge gefunden (bzw. importiert), 1 = keine, 2 = falscher Aufruf bzw. Store/Datei
+ * nicht lesbar oder nicht schreibbar.
+ */
+final class EntryQuery {
+    private EntryQuery() {}
+
+    private static final String[] WEEKDAYS = {"Mo", "Di", "Mi", "Do", "Fr", "Sa", "So"};
+
+    // längster Zeitraum für --range (Scan pro Tag)
+    private static final long MAX_RANGE_DAYS = 366L * 10;
+
+    private static final Set<String> COMMANDS = Set.of("--list", "--range", "--search", "--import-ics", "--help", "-h");
+
+    /** Ist das ein Kommandozeilen-Aufruf (statt GUI-Start)? */
+    static boolean handles(String[] args) {
+        return args.length > 0 && (COMMANDS.contains(args[0]) || args[0].startsWith("--store="));
+    }
+
+    static int run(String[] args, PrintStream out, PrintStream err) {
+        List<String> rest = new ArrayList<>();
+        Path storeFile = EntryStoreIO.defaultFilePath();
+        for (String a : args) {
+            if (a.startsWith("--store=")) storeFile = Paths.get(a.substring("--store=".length()));
+            else rest.add(a);
+        }
+        if (rest.isEmpty()) return usage(err);
+
+        try {
+            String command = rest.get(0);
+            List<String> params = rest.subList(1, rest.size());
+            return switch (command) {
+                case "--list" -> list(storeFile, params.isEmpty() ? LocalDate.now() : EntryStoreIO.parseDate(params.get(0)), out);
+                case "--range" -> {
+                    if (params.size() != 2) yield usage(err);
+                    yield range(storeFile, EntryStoreIO.parseDate(params.get(0)), EntryStoreIO.parseDate(params.get(1)), out, err);
+                }
+                case "--search" -> {
+                    if (params.isEmpty()) yield usage(err);
+                    yield search(storeFile, String.join(" ", params), out);
+                }
+                case "--import-ics" -> {
+                    if (params.size() != 1) yield usage(err);
+                    yield importIcs(storeFile, Paths.get(params.get(0)), out, err);
+                }
+                case "--help", "-h" -> {
+                    usage(out);
+                    yield 0;
+                }
+                default -> usage(err);
+            };
+        } catch (IOException e) {
+            err.println("Kann den Store " + storeFile + " nicht lesen: " + e.getMessage());
+            return 2;
+        } catch (DateTimeParseException e) {
+            err.println("Ungültiges Datum (erwartet JJJJ-MM-TT): " + e.getParsedString());
+            return 2;
+        } catch (DateTimeException e) {
+            err.println("Ungültiges Datum: " + e.getMessage());
+            return 2;
+        }
+    }
+
+    // ===================== Befehle =====================
+
+    private static int list(Path storeFile, LocalDate date, PrintStream out) throws IOException {
+        Map<LocalDate, List<String>> store = EntryStoreIO.loadOrThrow(storeFile);
+        List<Occurrence> found = DayOccurrences.compute(store, date, Integer.MAX_VALUE);
+        printDay(date, found, out);
+        return found.isEmpty() ? 1 : 0;
+    }
+
+    private static int range(Path storeFile, LocalDate from, LocalDate to, PrintStream out, PrintStream err)
+            throws IOException {
+        if (to.isBefore(from)) {
+            LocalDate t = from;
+            from = to;
+            to = t;
+        }
+        if (to.toEpochDay() - from.toEpochDay() >= MAX_RANGE_DAYS) {
+            err.println("Zeitraum zu lang (höchstens " + MAX_RANGE_DAYS + " Tage)");
+            return 2;
+        }
+
+        Map<LocalDate, List<String>> store = reduceToRange(EntryStoreIO.loadOrThrow(storeFile), from, to);
+
+        boolean any = false;
+        for (LocalDate d = from; !d.isAfter(to); d = d.plusDays(1)) {
+            List<Occurrence> found = DayOccurrences.compute(store, d, Integer.MAX_VALUE);
+            if (found.isEmpty()) continue;
+            printDay(d, found, out);
+            any = true;
+        }
+        return any ? 0 : 1;
+    }
+
+    private static int search(Path storeFile, String text, PrintStream out) throws IOException {
+        String needle = text.toLowerCase(Locale.ROOT);
+        Map<LocalDate, List<String>> sorted = new TreeMap<>(EntryStoreIO.loadOrThrow(storeFile));
+
+        boolean any = false;
+        for (Map.Entry<LocalDate, List<String>> e : sorted.entrySet()) {
+            for (String stored : e.getValue()) {
+                if (!RepeatMode.strip(stored).toLowerCase(Locale.ROOT).contains(needle)) continue;
+                out.println(dayLabel(e.getKey()) + "  " + describe(stored, null));
+                any = true;
+            }
+        }
+        return any ? 0 : 1;
+    }
+
+    private static int importIcs(Path storeFile, Path icsFile, PrintStream out, PrintStream err) {
+        // Ein vorhandener, aber unlesbarer Store darf nicht durch den Import ersetzt werden
+        Map<LocalDate, List<String>> store;
+        try {
+            store = EntryStoreIO.loadOrThrow(storeFile);
+        } catch (IOException e) {
+            err.println("Kann den Store " + storeFile + " nicht lesen, Import abgebrochen: " + e.getMessage());
+            return 2;
+        }
+
+        IcsImporter imported;
+        try {
+            imported = IcsImporter.read(icsFile);
+        } catch (IOException e) {
+            err.println("Kann " + icsFile + " nicht lesen: " + e.getMessage());
+            return 2;
+        }
+
+        int added = imported.mergeInto(store);
+        // einmal speichern, nicht pro Termin
+        if (added > 0) {
+            try {
+                EntryStoreIO.saveOrThrow(store, storeFile);
+            } catch (IOException e) {
+                err.println("Kann den Store " + storeFile + " nicht schreiben, nichts importiert: " + e.getMessage());
+                return 2;
+            }
+        }
+
+        out.println(imported.summary());
+        return added > 0 ? 0 : 1;
+    }
+
+    // ===================== Hilfen =====================
+
+    /**
+     * Für einen Zeitraum reicht ein kleinerer Store: alle Einträge der Tage im Zeitraum plus
+     * nur die Wiederholer aller anderen Tage. Der Scan pro Tag wird damit deutlich kürzer.
+     */
+    private static Map<LocalDate, List<String>> reduceToRange(Map<LocalDate, List<String>> store,
+                                                              LocalDate from, LocalDate to) {
+        Map<LocalDate, List<String>> reduced = new HashMap<>();
+        for (Map.Entry<LocalDate, List<String>> e : store.entrySet()) {
+            LocalDate d = e.getKey();
+            if (!d.isBefore(from) && !d.isAfter(to)) {
+                reduced.put(d, e.getValue());
+                continue;
+            }
+            List<String> repeaters = new ArrayList<>();
+            for (String s : e.getValue()) {
+                if (RepeatMode.detect(s) != RepeatMode.NONE) repeaters.add(s);
+            }
+            if (!repeaters.isEmpty()) reduced.put(d, repeaters);
+        }
+        return reduced;
+    }
+
+    private static void printDay(LocalDate date, List<Occurrence> found, PrintStream out) {
+        out.println(dayLabel(date));
+        for (Occurrence o : found) {
+            out.println("  " + describe(o.storedText(), o.originDate().equals(date) ? null : o.originDate()));
+        }
+    }
+
+    private static String dayLabel(LocalDate date) {
+        return date + " " + WEEKDAYS[date.getDayOfWeek().ordinal()];
+    }
+
+    private static String describe(String stored, LocalDate origin) {
+        RepeatMode mode = RepeatMode.detect(stored);
+        String text = RepeatMode.strip(stored);
+        if (mode == RepeatMode.NONE) return text;
+        return text + "  [" + mode.getLabel() + (origin != null ? ", von " + origin : "") + "]";
+    }
+
+    private static int usage(PrintStream out) {
+        out.println("Aufruf:");
+        out.println("  java Main                      startet die Zeitmaschine (GUI)");
+        out.println("  java Main --list [JJJJ-MM-TT]  Einträge eines Tages (Standard: heute)");
+        out.println("  java Main --range VON BIS      alle Tage mit Einträgen im Zeitraum");
+        out.println("  java Main --search TEXT        gespeicherte Einträge, die TEXT enthalten");
+        out.println("  java Main --import-ics DATEI   Termine aus einer .ics-Datei übernehmen");
+        out.println("  --store=DATEI                  anderen Store lesen");
+        return 2;
+    }
+}
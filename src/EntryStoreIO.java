@@ -1,3 +1,8 @@
+import jdk.jfr.FlightRecorder;
+import metrics.StoreLoadEvent;
+import metrics.StoreSaveEvent;
+
+import javax.swing.SwingUtilities;
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
 import java.io.IOException;
@@ -27,20 +32,56 @@ public final class EntryStoreIO {
     }
 
     public static Map<LocalDate, List<String>> loadOrEmpty() {
-        Path file = defaultFilePath();
+        return loadOrEmpty(defaultFilePath());
+    }
+
+    /** Wie {@link #loadOrEmpty()}, aber aus einer beliebigen Datei (z.B. Benchmarks, Tests). */
+    public static Map<LocalDate, List<String>> loadOrEmpty(Path file) {
+        try {
+            return loadOrThrow(file);
+        } catch (IOException ignored) {
+            return new HashMap<>();
+        }
+    }
+
+    /**
+     * Wie {@link #loadOrEmpty(Path)}, aber nur eine fehlende Datei ergibt einen leeren Store; eine
+     * vorhandene, die nicht lesbar ist, wirft. Für Aufrufer, die den Store danach zurückschreiben
+     * (z.B. Import) – sonst würde ein Lesefehler den ganzen Store überschreiben.
+     */
+    public static Map<LocalDate, List<String>> loadOrThrow(Path file) throws IOException {
+        // ohne JFR die Event-Klasse gar nicht erst laden (kostet sonst Startzeit)
+        if (!FlightRecorder.isInitialized()) return load(file);
+
+        StoreLoadEvent event = new StoreLoadEvent();
+        event.begin();
+        Map<LocalDate, List<String>> result = load(file);
+        event.end();
+        if (event.shouldCommit()) {
+            event.path = file.toString();
+            event.bytes = sizeOrZero(file);
+            event.days = result.size();
+            event.entries = countEntries(result);
+            event.commit();
+        }
+        return result;
+    }
+
+    private static Map<LocalDate, List<String>> load(Path file) throws IOException {
         if (!Files.exists(file)) return new HashMap<>();
 
         Properties p = new Properties();
         try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
             p.load(in);
-        } catch (IOException ignored) {
-            return new HashMap<>();
+        } catch (IllegalArgumentException e) {
+            // kaputte Unicode-Escapes in der Datei
+            throw new IOException("ungültiger Unicode-Escape (" + e.getMessage() + ")", e);
         }
 
         Map<LocalDate, List<String>> result = new HashMap<>();
         for (String key : p.stringPropertyNames()) {
             try {
-                LocalDate date = LocalDate.parse(key);
+                LocalDate date = parseDate(key);
                 String encoded = p.getProperty(key, "");
                 if (encoded.isBlank()) continue;
 
@@ -64,13 +105,43 @@ public final class EntryStoreIO {
     }
 
     public static void save(Map<LocalDate, List<String>> store) {
-        Path file = defaultFilePath();
+        save(store, defaultFilePath());
+    }
+
+    /** Wie {@link #save(Map)}, aber in eine beliebige Datei. */
+    public static void save(Map<LocalDate, List<String>> store, Path file) {
         try {
-            Files.createDirectories(file.getParent());
+            saveOrThrow(store, file);
         } catch (IOException ignored) {
+            // bei Fehlern still bleiben
+        }
+    }
+
+    /** Wie {@link #save(Map, Path)}, meldet Schreibfehler aber an den Aufrufer. */
+    public static void saveOrThrow(Map<LocalDate, List<String>> store, Path file) throws IOException {
+        if (!FlightRecorder.isInitialized()) {
+            write(store, file);
             return;
         }
 
+        StoreSaveEvent event = new StoreSaveEvent();
+        event.begin();
+        write(store, file);
+        event.end();
+        if (event.shouldCommit()) {
+            event.path = file.toString();
+            event.bytes = sizeOrZero(file);
+            event.days = store.size();
+            event.entries = countEntries(store);
+            event.onEdt = SwingUtilities.isEventDispatchThread();
+            event.commit();
+        }
+    }
+
+    private static void write(Map<LocalDate, List<String>> store, Path file) throws IOException {
+        Path dir = file.toAbsolutePath().getParent();
+        if (dir != null) Files.createDirectories(dir);
+
         Properties p = new Properties();
         for (Map.Entry<LocalDate, List<String>> e : store.entrySet()) {
             LocalDate date = e.getKey();
@@ -91,8 +162,46 @@ public final class EntryStoreIO {
                 StandardOpenOption.WRITE
         ))) {
             p.store(out, "Zeitmaschine Kalender - Day Entries");
-        } catch (IOException ignored) {
-            // bei Fehlern still bleiben
         }
     }
+
+    /**
+     * ISO-Datum ("2026-10-17") ohne DateTimeFormatter: dessen erste Benutzung kostet beim Start
+     * spürbar Zeit (GUI und Kommandozeile). Andere Formen gehen an {@link LocalDate#parse}.
+     */
+    static LocalDate parseDate(String s) {
+        if (s.length() == 10 && s.charAt(4) == '-' && s.charAt(7) == '-') {
+            int year = digits(s, 0, 4);
+            int month = digits(s, 5, 7);
+            int day = digits(s, 8, 10);
+            if (year >= 0 && month >= 0 && day >= 0) return LocalDate.of(year, month, day);
+        }
+        return LocalDate.parse(s);
+    }
+
+    private static int digits(String s, int from, int to) {
+        int v = 0;
+        for (int i = from; i < to; i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') return -1;
+            v = v * 10 + (c - '0');
+        }
+        return v;
+    }
+
+    private static long sizeOrZero(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    private static int countEntries(Map<LocalDate, List<String>> store) {
+        int n = 0;
+        for (List<String> items : store.values()) {
+            if (items != null) n += items.size();
+        }
+        return n;
+    }
 }
\ No newline at end of file
@@ -1,15 +1,24 @@
+import metrics.PaintProbe;
+
 import javax.swing.*;
 import java.awt.*;
-import java.util.concurrent.ThreadLocalRandom;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.Map;
 
 public class FlickerLight extends JComponent {
     private final Color baseColor;
     private float intensity = 0.0f; // 0..1
-    private Timer timer;
 
-    // Neu: Auto-Stop nach einer festen Zeit
-    private Timer autoStopTimer;
-    private static final int AUTO_STOP_MS = 2_000;
+    // Äußerer Halo; bei reduzierter Effekt-Qualität abgeschaltet
+    private boolean glowHalo = true;
+
+    // Hüllkurve 0..1 (Ein-/Ausblenden über die Zeitleiste), wird mit der Flacker-Intensität multipliziert
+    private float envelope = 1.0f;
+
+    // Vorgerenderter Glow (volle Intensität); wird pro Frame nur per Alpha abgeschwächt
+    private BufferedImage sprite;
+    private static final Map<String, BufferedImage> SPRITES = new HashMap<>();
 
     public FlickerLight(Color baseColor) {
         this.baseColor = baseColor;
@@ -17,32 +26,36 @@ public class FlickerLight extends JComponent {
         setVisible(false);
     }
 
+    /**
+     * Schaltet das Licht ein. Das eigentliche Flackern treibt die {@link Timeline}
+     * über {@link #flickerTick()} – es gibt keine eigenen Timer mehr.
+     */
     public void startFlicker() {
-        stopFlicker();
+        envelope = 1.0f;
         setVisible(true);
+        flickerTick();
+    }
 
-        timer = new Timer(33, e -> {
-            float r = (float) ThreadLocalRandom.current().nextDouble();
-            intensity = 0.20f + 0.80f * (r * r); // leicht "hell-lastig"
-            repaint();
-        });
-        timer.start();
-
-        // Neu: nach 20 Sekunden automatisch stoppen
-        autoStopTimer = new Timer(AUTO_STOP_MS, e -> stopFlicker());
-        autoStopTimer.setRepeats(false);
-        autoStopTimer.start();
+    /** Ein Flacker-Schritt: neue Zufallsintensität. */
+    public void flickerTick() {
+        float r = (float) AnimationClock.random().nextDouble();
+        intensity = 0.20f + 0.80f * (r * r); // leicht "hell-lastig"
+        repaint();
+    }
+
+    public void setEnvelope(float envelope) {
+        this.envelope = Math.max(0f, Math.min(1f, envelope));
+        repaint();
+    }
+
+    public void setGlowHalo(boolean glowHalo) {
+        if (this.glowHalo == glowHalo) return;
+        this.glowHalo = glowHalo;
+        sprite = null;
+        repaint();
     }
 
     public void stopFlicker() {
-        if (autoStopTimer != null) {
-            autoStopTimer.stop();
-            autoStopTimer = null;
-        }
-        if (timer != null) {
-            timer.stop();
-            timer = null;
-        }
         intensity = 0.0f;
         setVisible(false);
         repaint();
@@ -50,17 +63,43 @@ public class FlickerLight extends JComponent {
 
     @Override
     protected void paintComponent(Graphics g) {
-        super.paintComponent(g);
+        PaintProbe paint = PaintProbe.start();
+        paintGlow(g);
+        paint.done("Licht");
+    }
 
+    private void paintGlow(Graphics g) {
         int w = getWidth();
         int h = getHeight();
-        if (w <= 0 || h <= 0) return;
+        float alpha = intensity * envelope;
+        if (w <= 0 || h <= 0 || alpha <= 0f) return;
+
+        if (sprite == null || sprite.getWidth() != w || sprite.getHeight() != h) {
+            sprite = glowSprite(w, h, baseColor, glowHalo);
+        }
+
+        // Pro Frame nur noch Alpha modulieren – keine Color-Objekte, keine Ovale
+        Graphics2D g2 = (Graphics2D) g;
+        Composite old = g2.getComposite();
+        g2.setComposite(AlphaComposites.srcOver(alpha));
+        g2.drawImage(sprite, 0, 0, null);
+        g2.setComposite(old);
+    }
+
+    // Glow/Kern/Glanz einmalig mit voller Intensität vorrendern, je Größe und Farbe
+    private static BufferedImage glowSprite(int w, int h, Color color, boolean halo) {
+        String key = w + "x" + h + "#" + Integer.toHexString(color.getRGB()) + (halo ? "+halo" : "");
+        synchronized (SPRITES) {
+            BufferedImage cached = SPRITES.get(key);
+            if (cached != null) return cached;
+        }
 
         int d = Math.min(w, h);
         int x = (w - d) / 2;
         int y = (h - d) / 2;
 
-        Graphics2D g2 = (Graphics2D) g.create();
+        BufferedImage img = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D g2 = img.createGraphics();
         try {
             g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
@@ -69,18 +108,24 @@ public class FlickerLight extends JComponent {
             int gy = y - glow / 2;
             int gd = d + glow;
 
-            int alphaGlow = (int) (110 * intensity);
-            g2.setColor(new Color(baseColor.getRed(), baseColor.getGreen(), baseColor.getBlue(), alphaGlow));
-            g2.fillOval(gx, gy, gd, gd);
+            if (halo) {
+                g2.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(), 110));
+                g2.fillOval(gx, gy, gd, gd);
+            }
 
-            int alphaCore = (int) (220 * intensity);
-            g2.setColor(new Color(baseColor.getRed(), baseColor.getGreen(), baseColor.getBlue(), alphaCore));
+            g2.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(), 220));
             g2.fillOval(x, y, d, d);
 
-            g2.setColor(new Color(255, 255, 255, (int) (130 * intensity)));
+            g2.setColor(new Color(255, 255, 255, 130));
             g2.fillOval(x + d / 5, y + d / 5, d / 4, d / 4);
         } finally {
             g2.dispose();
         }
+
+        BufferedImage compatible = ImageLoader.toCompatible(img);
+        synchronized (SPRITES) {
+            SPRITES.put(key, compatible);
+        }
+        return compatible;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,75 @@
+/**
+ * Misst die Paint-Dauer pro Frame des Maschinen-Panels und passt {@link EffectQuality} an.
+ *
+ * Überschreitet der gleitende Mittelwert das Budget (Standard 16 ms,
+ * {@code -Dzeitmaschine.frameBudgetMs=...}) über mehrere Frames, wird eine Stufe
+ * heruntergeschaltet; bleibt er lange deutlich darunter, wieder eine Stufe hoch.
+ * Nur auf dem EDT benutzen.
+ */
+public final class FrameMonitor {
+    private FrameMonitor() {}
+
+    private static final double BUDGET_MS = Double.parseDouble(System.getProperty("zeitmaschine.frameBudgetMs", "16"));
+
+    // Hysterese: schnell runter, langsam wieder hoch
+    private static final int FRAMES_OVER_TO_DOWNGRADE = 8;
+    private static final int FRAMES_UNDER_TO_UPGRADE = 180;
+    private static final double UPGRADE_HEADROOM = 0.5;
+
+    private static final double EMA_ALPHA = 0.2;
+
+    // aus = nur messen, Qualität nicht anfassen (z.B. Headless-Harness mit fester Stufe)
+    private static boolean adaptive = true;
+
+    private static double lastMs;
+    private static double averageMs;
+    private static long frames;
+    private static int overCount;
+    private static int underCount;
+
+    public static void record(long paintNanos) {
+        lastMs = paintNanos / 1_000_000.0;
+        averageMs = (frames == 0) ? lastMs : averageMs + EMA_ALPHA * (lastMs - averageMs);
+        frames++;
+        if (!adaptive) return;
+
+        // Einzelne Ausreißer (z.B. erster Frame mit Cache-Aufbau) zählen nicht: der aktuelle Frame
+        // und der Mittelwert müssen beide über dem Budget liegen
+        if (lastMs > BUDGET_MS && averageMs > BUDGET_MS) {
+            underCount = 0;
+            if (++overCount >= FRAMES_OVER_TO_DOWNGRADE) {
+                overCount = 0;
+                EffectQuality.set(EffectQuality.current().lower());
+            }
+        } else if (averageMs < BUDGET_MS * UPGRADE_HEADROOM) {
+            overCount = 0;
+            if (++underCount >= FRAMES_UNDER_TO_UPGRADE) {
+                underCount = 0;
+                EffectQuality.set(EffectQuality.current().higher());
+            }
+        } else {
+            overCount = 0;
+            underCount = 0;
+        }
+    }
+
+    public static void setAdaptive(boolean adaptive) {
+        FrameMonitor.adaptive = adaptive;
+    }
+
+    public static double lastFrameMs() {
+        return lastMs;
+    }
+
+    public static double averageFrameMs() {
+        return averageMs;
+    }
+
+    public static double budgetMs() {
+        return BUDGET_MS;
+    }
+
+    public static long frameCount() {
+        return frames;
+    }
+}
@@ -0,0 +1,91 @@
+import DayEntriesWindow.ChalkFonts;
+import metrics.Metrics;
+
+import javax.swing.*;
+import java.util.Arrays;
+
+/**
+ * DE:
+ * GUI-Start: erstellt ein {@link JFrame}, setzt das Haupt-Panel ({@link CalendarMachinePanel})
+ * als ContentPane und macht das Fenster sichtbar – auf dem EDT.
+ *
+ * EN:
+ * GUI startup: creates a {@link JFrame}, sets the main panel ({@link CalendarMachinePanel})
+ * as content pane and shows the window – on the EDT.
+ */
+final class Gui {
+    private Gui() {}
+
+    static void launch(String[] args) {
+        long startNanos = System.nanoTime();
+
+        // DE: Trainingslauf für das CDS/AOT-Archiv bzw. Startzeit-Messung (siehe AppCds).
+        // EN: Training run for the CDS/AOT archive, or startup-time probe (see AppCds).
+        boolean trainingRun = Arrays.asList(args).contains("--training-run");
+        boolean startupProbe = Arrays.asList(args).contains("--startup-probe");
+
+        // DE: Assets parallel dekodieren, während der EDT noch hochfährt.
+        // EN: Decode all assets concurrently while the EDT is still starting up.
+        AssetPreloader.start();
+
+        // DE: Kreideschrift der Tagesfenster im Hintergrund ermitteln (Ergebnis wird zwischen Starts gecacht).
+        // EN: Resolve the day windows' chalk font in the background (cached across launches).
+        ChalkFonts.start();
+
+        // DE: Optional eigene JFR-Events mitzählen und beim Beenden ausgeben (-Dzeitmaschine.metrics=true).
+        // EN: Optionally aggregate our JFR events and print them on exit.
+        if (Metrics.enabledByProperty()) {
+            Metrics.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> Metrics.dump(System.err), "metrics-dump"));
+        }
+
+        // DE/EN: invokeLater stellt sicher, dass die GUI-Erstellung im EDT passiert.
+        SwingUtilities.invokeLater(() -> {
+            JFrame frame = new JFrame("Zeitmaschine Kalender");
+
+            // DE: Prozess beenden, wenn das Hauptfenster geschlossen wird.
+            // EN: Exit the JVM when the main window is closed.
+            frame.setDefaultCloseOperation(WindowConstants.EXIT_ON_CLOSE);
+
+            // DE: Unser Hauptpanel enthält die komplette „Maschinen“-UI.
+            // EN: The main panel contains the full “machine” UI.
+            CalendarMachinePanel panel = new CalendarMachinePanel();
+            frame.setContentPane(panel);
+
+            // DE: pack() nimmt PreferredSize der Inhalte (z.B. Canvas-Größe) als Grundlage.
+            // EN: pack() sizes the frame based on preferred sizes of the content.
+            frame.pack();
+
+            // DE: Feste Größe – passt zum Pixel-Art/Assets-Layout.
+            // EN: Fixed size – matches the pixel-perfect asset layout.
+            frame.setResizable(false);
+
+            // DE/EN: Zentriert auf dem Bildschirm.
+            frame.setLocationRelativeTo(null);
+
+            // DE: Ruhemodus – Animationen pausieren, solange das Fenster minimiert/unsichtbar ist.
+            // EN: Idle mode – pause all animations while the window is iconified/hidden.
+            PowerManager.install(frame);
+
+            // DE: Blockaden des EDT mit Stack in ~/.zeitmaschine-kalender/edt-stalls.log protokollieren.
+            // EN: Log EDT stalls with stack traces to ~/.zeitmaschine-kalender/edt-stalls.log.
+            EdtWatchdog.start();
+
+            frame.setVisible(true);
+
+            if (startupProbe) {
+                panel.onFirstFrame(() -> {
+                    System.out.println(AppCds.FIRST_FRAME);
+                    System.exit(0);
+                });
+            }
+            if (trainingRun) TrainingRun.start(panel);
+
+            // DE: Optional Startzeit bis zum sichtbaren Fenster ausgeben (-Dzeitmaschine.startupStats=true).
+            // EN: Optionally report time until the frame is visible.
+            if (Boolean.getBoolean("zeitmaschine.startupStats")) {
+                System.err.printf("[Main] Fenster sichtbar nach %.1f ms%n", (System.nanoTime() - startNanos) / 1_000_000.0);
+            }
+        });
+    }
+}
@@ -0,0 +1,481 @@
+import DayEntriesWindow.SplitFlapDisplay;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.InputEvent;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseWheelEvent;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.zip.CRC32;
+
+/**
+ * Headless-Messstand für das Maschinen-Panel.
+ *
+ * Baut {@link CalendarMachinePanel} offscreen auf, spielt eine feste Sitzung ab (Bullaugen drehen,
+ * Hebel ziehen, komplette Hebel-Sequenz, Hebel zurück, Fallblatt-Rattern) und zeichnet jeden Frame
+ * in ein {@link BufferedImage}. Die Zeit läuft virtuell ({@link AnimationClock}), der Zufall ist
+ * geseedet und die Effekt-Qualität fest – dadurch sind die Pixel-Prüfsummen reproduzierbar und
+ * taugen als Korrektheits-Baseline auf CI-Rechnern ohne Display.
+ *
+ * Pro Phase: Paint-Zeit (p50/p90/p99/max), Update-Zeit, Allokationen pro Frame, CRC32 aller Frames.
+ * Fehlende Assets werden durch deterministische Platzhalter ersetzt.
+ *
+ * <pre>
+ * java -Djava.awt.headless=true -cp ... HeadlessHarness [--scale=2] [--seed=42] [--quality=HIGH]
+ *      [--frame-ms=16] [--csv=frames.csv] [--write-baseline=base.properties] [--baseline=base.properties]
+ * </pre>
+ * Exit-Code 1, wenn eine Prüfsumme von der Baseline abweicht. Mit {@code --startup-probe} endet der Lauf
+ * nach dem ersten Frame (Startzeit-Messung ohne Display, siehe {@link AppCds}).
+ */
+public final class HeadlessHarness {
+
+    private static final String FLAP_TEXT = "ZAHNARZT 10:30 GEBURTSTAG OMA ÖLWECHSEL BESPRECHUNG MÜLL RAUSBRINGEN "
+            + "ELTERNABEND 19:00 STEUERERKLÄRUNG KINO (SPÄT)";
+
+    // ===================== Optionen =====================
+
+    private double scale = 1.0;
+    private long seed = 42L;
+    private EffectQuality quality = EffectQuality.HIGH;
+    private int frameMs = 16;
+    private Path csv;
+    private Path writeBaseline;
+    private Path baseline;
+    private boolean startupProbe;
+
+    // ===================== Messwerte =====================
+
+    private static final class Phase {
+        final String name;
+        final List<long[]> frames = new ArrayList<>(); // {updateNanos, paintNanos, allocBytes}
+        final CRC32 checksum = new CRC32();
+
+        Phase(String name) {
+            this.name = name;
+        }
+    }
+
+    private final Map<String, Phase> phases = new LinkedHashMap<>();
+    private final com.sun.management.ThreadMXBean threads =
+            (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean t
+                    && t.isThreadAllocatedMemorySupported()) ? t : null;
+
+    private CalendarMachinePanel panel;
+    private BullaugeControl[] dials;
+    private LeverControl lever;
+
+    private BufferedImage canvas;
+    private Graphics2D canvasGraphics;
+    private ByteBuffer crcBuffer;
+
+    private long nextTimelineMs;
+    private long clockMs;
+
+    public static void main(String[] args) throws Exception {
+        System.setProperty("java.awt.headless", "true");
+
+        HeadlessHarness h = new HeadlessHarness();
+        h.parse(args);
+
+        int[] exit = {0};
+        // Die ganze Sitzung ist eine einzige EDT-Aufgabe: Swing-Timer kommen nicht dazwischen
+        SwingUtilities.invokeAndWait(() -> {
+            try {
+                exit[0] = h.run();
+            } catch (IOException e) {
+                System.err.println("[HeadlessHarness] " + e.getMessage());
+                exit[0] = 2;
+            }
+        });
+        System.exit(exit[0]);
+    }
+
+    private void parse(String[] args) {
+        for (String a : args) {
+            String value = a.contains("=") ? a.substring(a.indexOf('=') + 1) : "";
+            if (a.startsWith("--scale=")) scale = Double.parseDouble(value);
+            else if (a.startsWith("--seed=")) seed = Long.parseLong(value);
+            else if (a.startsWith("--quality=")) quality = EffectQuality.valueOf(value.toUpperCase(Locale.ROOT));
+            else if (a.startsWith("--frame-ms=")) frameMs = Math.max(1, Integer.parseInt(value));
+            else if (a.startsWith("--csv=")) csv = Path.of(value);
+            else if (a.startsWith("--write-baseline=")) writeBaseline = Path.of(value);
+            else if (a.startsWith("--baseline=")) baseline = Path.of(value);
+            else if (a.equals("--startup-probe")) startupProbe = true;
+            else throw new IllegalArgumentException("Unbekannte Option: " + a);
+        }
+    }
+
+    // ===================== Sitzung =====================
+
+    private int run() throws IOException {
+        AnimationClock.useVirtual(seed);
+        FrameMonitor.setAdaptive(false);
+        EffectQuality.set(quality);
+        ImageLoader.installFallback(HeadlessHarness::placeholder);
+
+        panel = new CalendarMachinePanel();
+        panel.setSize(panel.getPreferredSize());
+        layoutTree(panel);
+        findControls();
+
+        // festes Datum statt LocalDate.now(), sonst ändern sich die Prüfsummen täglich
+        dials[0].getDisplay().setValue(28);
+        dials[1].getDisplay().setValue(2);
+        dials[2].getDisplay().setValue(2024);
+
+        canvas = new BufferedImage((int) Math.ceil(panel.getWidth() * scale),
+                (int) Math.ceil(panel.getHeight() * scale), BufferedImage.TYPE_INT_RGB);
+        canvasGraphics = canvas.createGraphics();
+        canvasGraphics.scale(scale, scale);
+
+        if (startupProbe) {
+            panelFrame(phase("idle"));
+            System.out.println(AppCds.FIRST_FRAME);
+            return 0;
+        }
+
+        phaseIdle();
+        phaseDials();
+        phaseLeverDown();
+        phaseLeverSequence();
+        phaseLeverUp();
+        phaseSplitFlap();
+
+        canvasGraphics.dispose();
+
+        printReport();
+        if (csv != null) writeCsv(csv);
+        if (writeBaseline != null) writeBaseline(writeBaseline);
+        return (baseline != null) ? compareBaseline(baseline) : 0;
+    }
+
+    private void phaseIdle() {
+        Phase p = phase("idle");
+        for (int i = 0; i < 30; i++) panelFrame(p);
+    }
+
+    private void phaseDials() {
+        Phase p = phase("dials");
+        for (BullaugeControl dial : dials) {
+            // 8 Rasten einzeln, dann 4 mit Shift (schnell), je eine pro Frame
+            for (int i = 0; i < 12; i++) {
+                wheel(dial, -1, i >= 8);
+                panelFrame(p);
+            }
+        }
+        // Flips auslaufen lassen (180 ms)
+        for (int i = 0; i < 20; i++) panelFrame(p);
+    }
+
+    private void phaseLeverDown() {
+        Phase p = phase("lever-drag");
+        dragLever(p, +8);
+    }
+
+    private void phaseLeverSequence() {
+        Phase p = phase("lever-sequence");
+        int guard = 0;
+        while (Timeline.runningCount() > 0 && guard++ < 2_000) panelFrame(p);
+    }
+
+    private void phaseLeverUp() {
+        Phase p = phase("lever-return");
+        dragLever(p, -8);
+        for (int i = 0; i < 5; i++) panelFrame(p);
+    }
+
+    private void phaseSplitFlap() {
+        Phase p = phase("split-flap");
+
+        // wie im Tagesfenster konfiguriert
+        SplitFlapDisplay flap = new SplitFlapDisplay(6, 16);
+        flap.setFont(new Font(Font.MONOSPACED, Font.BOLD, 18));
+        flap.setTiming(3, 3);
+        flap.setMaxAdvancesPerTick(quality.flapAdvancesPerTick);
+        flap.setCellSize(26, 32);
+        flap.setSize(flap.getPreferredSize());
+
+        BufferedImage img = new BufferedImage((int) Math.ceil(flap.getWidth() * scale),
+                (int) Math.ceil(flap.getHeight() * scale), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = img.createGraphics();
+        g.scale(scale, scale);
+
+        flap.showTextRattle(FLAP_TEXT);
+        boolean moving = true;
+        int guard = 0;
+        while (moving && guard++ < 2_000) {
+            long a0 = allocatedBytes();
+            long t0 = System.nanoTime();
+            moving = flap.advanceFrame();
+            long t1 = System.nanoTime();
+            g.setColor(Color.BLACK);
+            g.fillRect(0, 0, flap.getWidth(), flap.getHeight());
+            flap.paint(g);
+            long t2 = System.nanoTime();
+            record(p, t1 - t0, t2 - t1, allocatedBytes() - a0, img);
+        }
+        g.dispose();
+    }
+
+    // ===================== Eingaben =====================
+
+    private void wheel(BullaugeControl dial, int rotation, boolean fast) {
+        int mods = fast ? InputEvent.SHIFT_DOWN_MASK : 0;
+        dial.dispatchEvent(new MouseWheelEvent(dial, MouseEvent.MOUSE_WHEEL, eventTime(), mods,
+                dial.getWidth() / 2, dial.getHeight() / 2, 0, false,
+                MouseWheelEvent.WHEEL_UNIT_SCROLL, 1, rotation));
+    }
+
+    // Hebel greifen, pro Frame um dy ziehen bis zum Anschlag, loslassen
+    private void dragLever(Phase p, int dy) {
+        int grabX = lever.getWidth() / 2;
+        int grabY = 40;
+        lever.dispatchEvent(mouse(MouseEvent.MOUSE_PRESSED, grabX, grabY));
+
+        int lastY = Integer.MIN_VALUE;
+        int guard = 0;
+        while (lever.getY() != lastY && guard++ < 200) {
+            lastY = lever.getY();
+            lever.dispatchEvent(mouse(MouseEvent.MOUSE_DRAGGED, grabX, grabY + dy));
+            panelFrame(p);
+        }
+
+        lever.dispatchEvent(mouse(MouseEvent.MOUSE_RELEASED, grabX, grabY));
+        panelFrame(p);
+    }
+
+    private MouseEvent mouse(int id, int x, int y) {
+        int mods = (id == MouseEvent.MOUSE_RELEASED) ? 0 : InputEvent.BUTTON1_DOWN_MASK;
+        return new MouseEvent(lever, id, eventTime(), mods, x, y, 1, false, MouseEvent.BUTTON1);
+    }
+
+    private long eventTime() {
+        return clockMs;
+    }
+
+    // ===================== Frames =====================
+
+    private void panelFrame(Phase p) {
+        long a0 = allocatedBytes();
+        long t0 = System.nanoTime();
+
+        AnimationClock.advance(frameMs * 1_000_000L);
+        clockMs += frameMs;
+
+        // Zeitleisten im eigenen Takt (33 ms), Bullaugen in jedem Frame
+        while (clockMs >= nextTimelineMs) {
+            Timeline.advance();
+            nextTimelineMs += Timeline.FRAME_MS;
+        }
+        for (BullaugeControl dial : dials) dial.advanceAnimation();
+
+        long t1 = System.nanoTime();
+        panel.paint(canvasGraphics);
+        long t2 = System.nanoTime();
+
+        record(p, t1 - t0, t2 - t1, allocatedBytes() - a0, canvas);
+    }
+
+    private void record(Phase p, long updateNanos, long paintNanos, long allocBytes, BufferedImage img) {
+        p.frames.add(new long[]{updateNanos, paintNanos, allocBytes});
+
+        int[] pixels = ((DataBufferInt) img.getRaster().getDataBuffer()).getData();
+        if (crcBuffer == null || crcBuffer.capacity() < pixels.length * 4) {
+            crcBuffer = ByteBuffer.allocate(pixels.length * 4);
+        }
+        crcBuffer.clear();
+        crcBuffer.asIntBuffer().put(pixels);
+        crcBuffer.limit(pixels.length * 4);
+        p.checksum.update(crcBuffer);
+    }
+
+    private long allocatedBytes() {
+        return (threads != null) ? threads.getCurrentThreadAllocatedBytes() : 0L;
+    }
+
+    private Phase phase(String name) {
+        return phases.computeIfAbsent(name, Phase::new);
+    }
+
+    // ===================== Aufbau =====================
+
+    private static void layoutTree(Container c) {
+        c.doLayout();
+        for (Component child : c.getComponents()) {
+            if (child instanceof Container cc) layoutTree(cc);
+        }
+    }
+
+    // Bedienelemente über den Komponentenbaum finden (Bullaugen von links nach rechts)
+    private void findControls() {
+        List<BullaugeControl> found = new ArrayList<>();
+        collect(panel, found);
+        found.sort(Comparator.comparingInt(Component::getX));
+        if (found.size() != 3 || lever == null) {
+            throw new IllegalStateException("Panel-Aufbau unerwartet: " + found.size() + " Bullaugen, Hebel=" + lever);
+        }
+        dials = found.toArray(new BullaugeControl[0]);
+    }
+
+    private void collect(Container c, List<BullaugeControl> dialsOut) {
+        for (Component child : c.getComponents()) {
+            if (child instanceof BullaugeControl b) dialsOut.add(b);
+            else if (child instanceof LeverControl l) lever = l;
+            else if (child instanceof Container cc) collect(cc, dialsOut);
+        }
+    }
+
+    // Deterministisches Ersatzbild: Farbe aus dem Pfad, Speichen/Zähne, damit Drehungen sichtbar sind
+    private static BufferedImage placeholder(String path) {
+        String name = path.toLowerCase(Locale.ROOT);
+        int w, h;
+        if (name.contains("zeitmaschiene") || name.contains("glaselemente")) {
+            w = 534;
+            h = 773;
+        } else if (name.contains("hebel")) {
+            w = 120;
+            h = 420;
+        } else {
+            w = 256;
+            h = 256;
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(path.getBytes(java.nio.charset.StandardCharsets.UTF_8));
+        int rgb = (int) crc.getValue() | 0x404040;
+
+        BufferedImage img = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = img.createGraphics();
+        try {
+            g2.setColor(new Color(rgb & 0xFFFFFF));
+            if (name.contains("glaselemente") || name.contains("ohnehebel")) {
+                // Vordergrund-Ebenen: nur Rahmen, sonst wäre alles dahinter verdeckt
+                g2.setStroke(new BasicStroke(18f));
+                g2.drawRect(9, 9, w - 18, h - 18);
+            } else {
+                g2.fillOval(4, 4, w - 8, h - 8);
+                g2.setColor(new Color(~rgb & 0xFFFFFF));
+                for (int i = 0; i < 8; i++) {
+                    double a = i * Math.PI / 4;
+                    int x = (int) (w / 2.0 + Math.cos(a) * w * 0.35);
+                    int y = (int) (h / 2.0 + Math.sin(a) * h * 0.35);
+                    g2.fillRect(x - w / 24, y - h / 24, w / 12, h / 12);
+                }
+            }
+        } finally {
+            g2.dispose();
+        }
+        return img;
+    }
+
+    // ===================== Ausgabe =====================
+
+    private void printReport() {
+        System.out.printf(Locale.ROOT, "HeadlessHarness: scale=%.2f seed=%d quality=%s frame=%d ms, Java %s%n",
+                scale, seed, quality, frameMs, System.getProperty("java.version"));
+        System.out.printf(Locale.ROOT, "%-15s %6s %8s %8s %8s %8s %10s %12s  %s%n",
+                "Phase", "Frames", "p50 ms", "p90 ms", "p99 ms", "max ms", "Update ms", "Alloc KB/Fr", "CRC32");
+
+        for (Phase p : phases.values()) {
+            long[] paint = p.frames.stream().mapToLong(f -> f[1]).sorted().toArray();
+            double updateMean = p.frames.stream().mapToLong(f -> f[0]).average().orElse(0) / 1e6;
+            double allocMean = p.frames.stream().mapToLong(f -> f[2]).average().orElse(0) / 1024.0;
+
+            System.out.printf(Locale.ROOT, "%-15s %6d %8.3f %8.3f %8.3f %8.3f %10.3f %12.1f  %08x%n",
+                    p.name, paint.length,
+                    percentile(paint, 0.50), percentile(paint, 0.90), percentile(paint, 0.99),
+                    paint.length == 0 ? 0.0 : paint[paint.length - 1] / 1e6,
+                    updateMean, allocMean, p.checksum.getValue());
+        }
+        if (threads == null) System.out.println("(Allokationsmessung von dieser JVM nicht unterstützt)");
+    }
+
+    private static double percentile(long[] sorted, double q) {
+        if (sorted.length == 0) return 0.0;
+        int idx = (int) Math.ceil(q * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, idx))] / 1e6;
+    }
+
+    private void writeCsv(Path file) throws IOException {
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(file))) {
+            out.println("phase,frame,update_ns,paint_ns,alloc_bytes");
+            for (Phase p : phases.values()) {
+                for (int i = 0; i < p.frames.size(); i++) {
+                    long[] f = p.frames.get(i);
+                    out.println(p.name + "," + i + "," + f[0] + "," + f[1] + "," + f[2]);
+                }
+            }
+        }
+    }
+
+    private Properties baselineProperties() {
+        Properties props = new Properties();
+        props.setProperty("java.version", System.getProperty("java.version", ""));
+        props.setProperty("os.name", System.getProperty("os.name", ""));
+        props.setProperty("config", String.format(Locale.ROOT, "scale=%.2f seed=%d quality=%s frame=%d",
+                scale, seed, quality, frameMs));
+        for (Phase p : phases.values()) {
+            props.setProperty("phase." + p.name + ".frames", String.valueOf(p.frames.size()));
+            props.setProperty("phase." + p.name + ".crc32", String.format("%08x", p.checksum.getValue()));
+        }
+        return props;
+    }
+
+    private void writeBaseline(Path file) throws IOException {
+        try (OutputStream out = Files.newOutputStream(file)) {
+            baselineProperties().store(out, "HeadlessHarness Baseline");
+        }
+        System.out.println("Baseline geschrieben: " + file);
+    }
+
+    private int compareBaseline(Path file) throws IOException {
+        Properties expected = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            expected.load(in);
+        }
+        Properties actual = baselineProperties();
+
+        if (!actual.getProperty("config").equals(expected.getProperty("config"))) {
+            System.out.println("Baseline mit anderer Konfiguration erzeugt: " + expected.getProperty("config"));
+            return 1;
+        }
+        if (!actual.getProperty("java.version").equals(expected.getProperty("java.version"))
+                || !actual.getProperty("os.name").equals(expected.getProperty("os.name"))) {
+            // Schriftglättung/Rasterung kann sich zwischen JDKs und Plattformen unterscheiden
+            System.out.println("Hinweis: Baseline stammt von " + expected.getProperty("os.name")
+                    + " / Java " + expected.getProperty("java.version"));
+        }
+
+        List<String> mismatches = new ArrayList<>();
+        for (String key : new java.util.TreeSet<>(expected.stringPropertyNames())) {
+            if (!key.startsWith("phase.")) continue;
+            if (!expected.getProperty(key).equals(actual.getProperty(key))) {
+                mismatches.add(key + ": erwartet " + expected.getProperty(key) + ", ist " + actual.getProperty(key));
+            }
+        }
+
+        if (mismatches.isEmpty()) {
+            System.out.println("Baseline OK (" + file + ")");
+            return 0;
+        }
+        System.out.println("Abweichungen zur Baseline:");
+        mismatches.forEach(m -> System.out.println("  " + m));
+        return 1;
+    }
+}
@@ -0,0 +1,377 @@
+import DayEntriesWindow.RepeatMode;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Import aus iCalendar-Dateien (.ics, RFC 5545), z.B. Exporte anderer Kalender.
+ *
+ * Die Datei wird zeilenweise gelesen (nie komplett im Speicher); VEVENT-Blöcke werden zu Paketen
+ * gesammelt und parallel ausgewertet, höchstens zwei Pakete je Kern gleichzeitig.
+ * Wiederholungen werden auf die vorhandenen Modi abgebildet:
+ * <ul>
+ *   <li>{@code FREQ=YEARLY} → jährlich, {@code FREQ=MONTHLY} → monatlich (jeweils am Tag des Beginns)</li>
+ *   <li>{@code FREQ=WEEKLY/DAILY;BYDAY=MO,TU,WE,TH,FR} → Mo–Fr</li>
+ * </ul>
+ * Alles andere (Intervall, „2. Dienstag“, COUNT/UNTIL …) wird nur am ersten Tag eingetragen.
+ * Abgesagte Termine und geänderte Einzeltermine einer Serie (RECURRENCE-ID) werden übersprungen.
+ *
+ * Ablauf: {@link #read(Path)} im Hintergrund, dann {@link #mergeInto(Map)} dort, wo der Store
+ * lebt (GUI: EDT); gespeichert wird danach einmal vom Aufrufer. Kein AWT (Kommandozeile).
+ */
+final class IcsImporter {
+
+    // VEVENTs pro Paket und Pakete in Arbeit je Thread
+    private static final int BATCH_SIZE = 256;
+    private static final int IN_FLIGHT_PER_THREAD = 2;
+
+    private static final Set<String> WORKDAYS = Set.of("MO", "TU", "WE", "TH", "FR");
+
+    /** Ausgewerteter Termin; {@code unmapped}: Wiederholung ließ sich nicht abbilden. */
+    private record Event(LocalDate date, String stored, boolean unmapped) {}
+
+    private record Batch(List<Event> events, int skipped) {}
+
+    // Ergebnis je Tag, innerhalb eines Tages in Dateireihenfolge
+    private final Map<LocalDate, List<String>> entries = new LinkedHashMap<>();
+
+    private int events;
+    private int repeating;
+    private int unmapped;
+    private int skipped;
+    private int duplicates;
+    private int added;
+
+    private IcsImporter() {}
+
+    // ===================== Lesen =====================
+
+    /** Liest und wertet {@code file} aus; der Store wird dabei nicht angefasst. */
+    static IcsImporter read(Path file) throws IOException {
+        IcsImporter result = new IcsImporter();
+        int threads = Math.max(1, Runtime.getRuntime().availableProcessors());
+        ExecutorService pool = Executors.newFixedThreadPool(threads,
+                Thread.ofPlatform().name("ics-import-", 0).daemon().factory());
+
+        // Pakete in Reihenfolge abholen; begrenzt, damit große Dateien nicht ganz im Speicher landen
+        Deque<Future<Batch>> pending = new ArrayDeque<>();
+        try (LineReader in = new LineReader(Files.newBufferedReader(file, StandardCharsets.UTF_8))) {
+            List<List<String>> batch = new ArrayList<>(BATCH_SIZE);
+            List<String> event = null;
+            int nested = 0;
+
+            for (String line = in.next(); line != null; line = in.next()) {
+                if (event == null) {
+                    if (line.equalsIgnoreCase("BEGIN:VEVENT")) event = new ArrayList<>();
+                    continue;
+                }
+                if (startsWithIgnoreCase(line, "BEGIN:")) {
+                    nested++;
+                    continue;
+                }
+                if (startsWithIgnoreCase(line, "END:")) {
+                    if (nested > 0) {
+                        nested--;
+                        continue;
+                    }
+                    batch.add(event);
+                    event = null;
+                    if (batch.size() == BATCH_SIZE) {
+                        pending.add(submit(pool, batch));
+                        batch = new ArrayList<>(BATCH_SIZE);
+                        while (pending.size() > threads * IN_FLIGHT_PER_THREAD) result.collect(pending.poll());
+                    }
+                    continue;
+                }
+                // Eigenschaften eingebetteter Komponenten (VALARM …) gehören nicht zum Termin
+                if (nested == 0) event.add(line);
+            }
+            if (!batch.isEmpty()) pending.add(submit(pool, batch));
+            while (!pending.isEmpty()) result.collect(pending.poll());
+        } finally {
+            pool.shutdownNow();
+        }
+        return result;
+    }
+
+    private static Future<Batch> submit(ExecutorService pool, List<List<String>> batch) {
+        return pool.submit(() -> parseBatch(batch));
+    }
+
+    private void collect(Future<Batch> future) throws IOException {
+        Batch batch;
+        try {
+            batch = future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Import abgebrochen", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Import fehlgeschlagen", e.getCause());
+        }
+
+        events += batch.events().size() + batch.skipped();
+        skipped += batch.skipped();
+        for (Event e : batch.events()) {
+            if (e.unmapped()) unmapped++;
+            entries.computeIfAbsent(e.date(), d -> new ArrayList<>()).add(e.stored());
+        }
+    }
+
+    // ===================== Übernehmen =====================
+
+    /**
+     * Fügt die gelesenen Termine in den Store ein; was dort am selben Tag schon genauso steht,
+     * wird übersprungen (erneuter Import derselben Datei). Liefert die Zahl neuer Einträge.
+     */
+    int mergeInto(Map<LocalDate, List<String>> store) {
+        for (Map.Entry<LocalDate, List<String>> e : entries.entrySet()) {
+            List<String> items = store.get(e.getKey());
+            for (String stored : e.getValue()) {
+                if (items != null && items.contains(stored)) {
+                    duplicates++;
+                    continue;
+                }
+                if (items == null) {
+                    items = new ArrayList<>();
+                    store.put(e.getKey(), items);
+                }
+                items.add(stored);
+                added++;
+                if (RepeatMode.detect(stored) != RepeatMode.NONE) repeating++;
+            }
+        }
+        return added;
+    }
+
+    /** Tage mit gelesenen Terminen (nach {@link #mergeInto(Map)}: alle Tage, die sich geändert haben können). */
+    Set<LocalDate> days() {
+        return entries.keySet();
+    }
+
+    /** Kurzer Bericht, z.B. "1200 Termine: 1180 neu (35 wiederkehrend), 12 schon vorhanden, 8 übersprungen". */
+    String summary() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(events).append(" Termine: ").append(added).append(" neu");
+        if (repeating > 0) sb.append(" (").append(repeating).append(" wiederkehrend)");
+        if (duplicates > 0) sb.append(", ").append(duplicates).append(" schon vorhanden");
+        if (skipped > 0) sb.append(", ").append(skipped).append(" übersprungen");
+        if (unmapped > 0) sb.append(", ").append(unmapped).append(" Serien nur am ersten Tag");
+        return sb.toString();
+    }
+
+    // ===================== Auswerten (Worker-Threads) =====================
+
+    private static Batch parseBatch(List<List<String>> batch) {
+        List<Event> parsed = new ArrayList<>(batch.size());
+        int skipped = 0;
+        for (List<String> lines : batch) {
+            Event e = parseEvent(lines);
+            if (e != null) parsed.add(e);
+            else skipped++;
+        }
+        return new Batch(parsed, skipped);
+    }
+
+    /** Ein VEVENT; null, wenn er übersprungen wird. */
+    private static Event parseEvent(List<String> lines) {
+        Map<String, String> values = new HashMap<>();
+        String tzid = null;
+
+        for (String line : lines) {
+            int colon = valueStart(line);
+            if (colon < 0) continue;
+
+            String head = line.substring(0, colon);
+            int semi = head.indexOf(';');
+            String name = (semi < 0 ? head : head.substring(0, semi)).toUpperCase(Locale.ROOT);
+            values.putIfAbsent(name, line.substring(colon + 1));
+
+            if (name.equals("DTSTART") && semi >= 0) tzid = param(head.substring(semi + 1), "TZID");
+        }
+
+        if (values.containsKey("RECURRENCE-ID")) return null;
+        if ("CANCELLED".equalsIgnoreCase(values.getOrDefault("STATUS", "").trim())) return null;
+
+        String summary = text(values.get("SUMMARY"));
+        if (summary.isEmpty()) return null;
+
+        LocalDateTime start;
+        try {
+            start = dateTime(values.get("DTSTART"), tzid);
+        } catch (DateTimeException | IllegalArgumentException e) {
+            return null;
+        }
+        if (start == null) return null;
+
+        // Uhrzeit nur bei Terminen mit Zeit (ganztägig: VALUE=DATE, nur 8 Ziffern)
+        String dt = values.get("DTSTART").trim();
+        String label = (dt.length() > 8)
+                ? String.format(Locale.ROOT, "%02d:%02d %s", start.getHour(), start.getMinute(), summary)
+                : summary;
+
+        String rule = values.get("RRULE");
+        RepeatMode mode = (rule == null) ? RepeatMode.NONE : repeatMode(rule, start.toLocalDate());
+        boolean unmapped = rule != null && mode == RepeatMode.NONE;
+        return new Event(start.toLocalDate(), mode.applyTo(label), unmapped);
+    }
+
+    /** RRULE → Wiederholungs-Modus; NONE, wenn die Regel mehr verlangt, als die Modi können. */
+    private static RepeatMode repeatMode(String rule, LocalDate start) {
+        Map<String, String> parts = new HashMap<>();
+        for (String part : rule.split(";")) {
+            int eq = part.indexOf('=');
+            if (eq > 0) parts.put(part.substring(0, eq).trim().toUpperCase(Locale.ROOT), part.substring(eq + 1).trim());
+        }
+
+        // begrenzte Serien und Intervalle > 1 gibt es in den Modi nicht
+        String interval = parts.getOrDefault("INTERVAL", "1");
+        if (!interval.equals("1") || parts.containsKey("COUNT") || parts.containsKey("UNTIL")) return RepeatMode.NONE;
+
+        String byDay = parts.get("BYDAY");
+        String byMonthDay = parts.get("BYMONTHDAY");
+        String byMonth = parts.get("BYMONTH");
+        boolean onStartDay = byMonthDay == null || byMonthDay.equals(String.valueOf(start.getDayOfMonth()));
+
+        return switch (parts.getOrDefault("FREQ", "").toUpperCase(Locale.ROOT)) {
+            case "YEARLY" -> (byDay == null && onStartDay
+                    && (byMonth == null || byMonth.equals(String.valueOf(start.getMonthValue()))))
+                    ? RepeatMode.YEARLY : RepeatMode.NONE;
+            case "MONTHLY" -> (byDay == null && byMonth == null && onStartDay) ? RepeatMode.MONTHLY : RepeatMode.NONE;
+            case "WEEKLY", "DAILY" -> (byDay != null && byMonthDay == null && byMonth == null
+                    && Set.of(byDay.toUpperCase(Locale.ROOT).split(",")).equals(WORKDAYS))
+                    ? RepeatMode.WEEKDAYS : RepeatMode.NONE;
+            default -> RepeatMode.NONE;
+        };
+    }
+
+    /**
+     * DTSTART-Wert: "20260101" (ganztägig), "20260101T090000" (lokal bzw. in TZID) oder
+     * "20260101T090000Z" (UTC). Zeiten mit Zone werden in die Systemzone umgerechnet.
+     * Von Hand geparst, siehe {@link EntryStoreIO#parseDate(String)}.
+     */
+    private static LocalDateTime dateTime(String value, String tzid) {
+        if (value == null) return null;
+        String v = value.trim();
+        if (v.length() < 8) return null;
+
+        LocalDate date = LocalDate.of(digits(v, 0, 4), digits(v, 4, 6), digits(v, 6, 8));
+        if (v.length() < 15 || v.charAt(8) != 'T') return date.atStartOfDay();
+
+        LocalDateTime local = date.atTime(digits(v, 9, 11), digits(v, 11, 13), digits(v, 13, 15));
+        ZoneId zone = null;
+        if (v.endsWith("Z")) {
+            zone = ZoneOffset.UTC;
+        } else if (tzid != null) {
+            try {
+                zone = ZoneId.of(tzid);
+            } catch (DateTimeException ignored) {
+                // unbekannte Zonennamen (z.B. aus Outlook): Wanduhrzeit übernehmen
+            }
+        }
+        if (zone == null) return local;
+        return local.atZone(zone).withZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+    }
+
+    private static int digits(String s, int from, int to) {
+        int v = 0;
+        for (int i = from; i < to; i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') throw new IllegalArgumentException("keine Ziffer: " + s);
+            v = v * 10 + (c - '0');
+        }
+        return v;
+    }
+
+    /** TEXT-Wert entschlüsseln; Zeilenumbrüche werden zu Leerzeichen (der Store trennt Einträge per \n). */
+    private static String text(String value) {
+        if (value == null) return "";
+        StringBuilder sb = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                char n = value.charAt(++i);
+                sb.append((n == 'n' || n == 'N') ? ' ' : n);
+            } else {
+                sb.append(Character.isISOControl(c) ? ' ' : c);
+            }
+        }
+        return sb.toString().trim().replaceAll("\\s{2,}", " ");
+    }
+
+    // Doppelpunkt vor dem Wert; Parameterwerte in Anführungszeichen dürfen selbst ':' enthalten
+    private static int valueStart(String line) {
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') quoted = !quoted;
+            else if (c == ':' && !quoted) return i;
+        }
+        return -1;
+    }
+
+    private static String param(String params, String name) {
+        for (String p : params.split(";")) {
+            int eq = p.indexOf('=');
+            if (eq > 0 && p.substring(0, eq).equalsIgnoreCase(name)) {
+                String v = p.substring(eq + 1);
+                return (v.length() >= 2 && v.startsWith("\"") && v.endsWith("\"")) ? v.substring(1, v.length() - 1) : v;
+            }
+        }
+        return null;
+    }
+
+    private static boolean startsWithIgnoreCase(String s, String prefix) {
+        return s.regionMatches(true, 0, prefix, 0, prefix.length());
+    }
+
+    /** Liest „entfaltete“ Zeilen: Fortsetzungszeilen (Leerzeichen/Tab am Anfang) hängen an der vorigen. */
+    private static final class LineReader implements AutoCloseable {
+        private final BufferedReader in;
+        private String lookahead;
+
+        LineReader(BufferedReader in) throws IOException {
+            this.in = in;
+            lookahead = in.readLine();
+            if (lookahead != null && lookahead.startsWith("\uFEFF")) lookahead = lookahead.substring(1);
+        }
+
+        String next() throws IOException {
+            String line = lookahead;
+            if (line == null) return null;
+
+            StringBuilder folded = null;
+            while ((lookahead = in.readLine()) != null
+                    && !lookahead.isEmpty() && (lookahead.charAt(0) == ' ' || lookahead.charAt(0) == '\t')) {
+                if (folded == null) folded = new StringBuilder(line);
+                folded.append(lookahead, 1, lookahead.length());
+            }
+            return (folded != null) ? folded.toString() : line;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+}
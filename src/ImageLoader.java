@@ -1,12 +1,44 @@
 import javax.imageio.ImageIO;
+import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.lang.ref.SoftReference;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
 
 public final class ImageLoader {
     private ImageLoader() {}
 
+    // Prozessweiter Cache: LRU über die Pfade, Bilder nur weich referenziert (GC darf bei Speicherdruck räumen)
+    private static final int MAX_CACHED = 64;
+    private static final Map<String, SoftReference<BufferedImage>> CACHE =
+            new LinkedHashMap<>(32, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, SoftReference<BufferedImage>> eldest) {
+                    return size() > MAX_CACHED;
+                }
+            };
+
+    // Dekodierzeit pro Asset (ms), für Diagnose
+    private static final Map<String, Double> DECODE_MILLIS = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    // -Dzeitmaschine.imageStats=true -> Dekodierzeiten auf stderr ausgeben
+    private static final boolean REPORT = Boolean.getBoolean("zeitmaschine.imageStats");
+
+    // Ersatzbilder für fehlende Assets (z.B. Headless-Harness auf CI ohne Assets); null = keine
+    private static volatile Function<String, BufferedImage> fallback;
+
+    /** Liefert für fehlende/unlesbare Assets ein Ersatzbild statt null. */
+    public static void installFallback(Function<String, BufferedImage> fallback) {
+        ImageLoader.fallback = fallback;
+    }
+
     public static BufferedImage loadOrThrow(String path) {
         BufferedImage img = loadOptional(path);
         if (img == null) throw new IllegalStateException("Bild nicht gefunden/lesbar: " + path);
@@ -16,6 +48,87 @@ public final class ImageLoader {
     public static BufferedImage loadOptional(String path) {
         if (path == null || path.isBlank()) return null;
 
+        synchronized (CACHE) {
+            SoftReference<BufferedImage> ref = CACHE.get(path);
+            BufferedImage cached = (ref != null) ? ref.get() : null;
+            if (cached != null) return cached;
+        }
+
+        long t0 = System.nanoTime();
+        BufferedImage decoded = decode(path);
+        if (decoded == null && fallback != null) decoded = fallback.apply(path);
+        if (decoded == null) return null;
+
+        BufferedImage img = toCompatible(decoded);
+        double ms = (System.nanoTime() - t0) / 1_000_000.0;
+        DECODE_MILLIS.put(path, ms);
+        if (REPORT) System.err.printf("[ImageLoader] %s: %.1f ms (%dx%d)%n", path, ms, img.getWidth(), img.getHeight());
+
+        synchronized (CACHE) {
+            CACHE.put(path, new SoftReference<>(img));
+        }
+        return img;
+    }
+
+    /** Dekodierzeiten (ms) der bisher geladenen Assets, in Ladereihenfolge. */
+    public static Map<String, Double> decodeTimesMillis() {
+        synchronized (DECODE_MILLIS) {
+            return new LinkedHashMap<>(DECODE_MILLIS);
+        }
+    }
+
+    /**
+     * Wandelt ein Bild in ein zur Grafikkonfiguration kompatibles (beschleunigbares) Format um.
+     * ImageIO liefert oft TYPE_4BYTE_ABGR oder TYPE_CUSTOM, die Java2D nicht beschleunigen kann.
+     */
+    public static BufferedImage toCompatible(BufferedImage src) {
+        if (src == null) return null;
+
+        int w = src.getWidth();
+        int h = src.getHeight();
+        int transparency = src.getColorModel().getTransparency();
+
+        BufferedImage dst;
+        if (GraphicsEnvironment.isHeadless()) {
+            if (src.getType() == BufferedImage.TYPE_INT_ARGB_PRE) return src;
+            dst = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB_PRE);
+        } else {
+            GraphicsConfiguration gc = GraphicsEnvironment.getLocalGraphicsEnvironment()
+                    .getDefaultScreenDevice()
+                    .getDefaultConfiguration();
+            if (src.getColorModel().equals(gc.getColorModel(transparency))) return src;
+            dst = gc.createCompatibleImage(w, h, transparency);
+        }
+
+        Graphics2D g2 = dst.createGraphics();
+        try {
+            g2.setComposite(AlphaComposite.Src);
+            g2.drawImage(src, 0, 0, null);
+        } finally {
+            g2.dispose();
+        }
+        return dst;
+    }
+
+    private static BufferedImage decode(String path) {
+        // 0) Gepacktes Archiv (memory-mapped, keine PNG-Dekodierung), falls vorhanden und aktuell –
+        //    dann wird die PNG gar nicht erst gesucht
+        PackedAssets pack = PackedAssets.get();
+        if (pack != null) {
+            BufferedImage packed = pack.load(path);
+            if (packed != null) return packed;
+        }
+
+        byte[] png = readSource(path);
+        if (png == null) return null;
+        try {
+            return ImageIO.read(new ByteArrayInputStream(png));
+        } catch (IOException ignored) {
+            return null;
+        }
+    }
+
+    private static byte[] readSource(String path) {
         // 1) Erst als Resource laden (funktioniert in JAR/jpackage stabil)
         String resPath = path.startsWith("/") ? path.substring(1) : path;
         ClassLoader cl = Thread.currentThread().getContextClassLoader();
@@ -23,7 +136,7 @@ public final class ImageLoader {
 
         try (InputStream in = cl.getResourceAsStream(resPath)) {
             if (in != null) {
-                return ImageIO.read(in);
+                return in.readAllBytes();
             }
         } catch (IOException ignored) {
             return null;
@@ -33,9 +146,9 @@ public final class ImageLoader {
         try {
             File f = new File(path);
             if (!f.exists()) return null;
-            return ImageIO.read(f);
+            return Files.readAllBytes(f.toPath());
         } catch (IOException ignored) {
             return null;
         }
     }
-}
\ No newline at end of file
+}
@@ -1,3 +1,5 @@
+import metrics.PaintProbe;
+
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.MouseAdapter;
@@ -7,6 +9,10 @@ import java.awt.image.BufferedImage;
 public class LeverControl extends JComponent {
     private final BufferedImage image;
 
+    private Image scaled;
+    private int scaledW;
+    private int scaledH;
+
     private int dragMinY = 0;
     private int dragMaxY = 0;
 
@@ -47,8 +53,7 @@ public class LeverControl extends JComponent {
                 int newY = getY() + (e.getY() - grabOffsetY);
                 newY = Math.max(dragMinY, Math.min(dragMaxY, newY));
 
-                setLocation(getX(), newY);
-                parent.repaint();
+                moveTo(newY);
 
                 // Neu: sobald man ein Stück weg vom unteren Anschlag ist, darf erneut ausgelöst werden
                 if (newY <= dragMaxY - RELATCH_DEADBAND_PX) {
@@ -94,8 +99,7 @@ public class LeverControl extends JComponent {
 
         int targetY = (y <= mid) ? dragMinY : dragMaxY;
 
-        setLocation(getX(), targetY);
-        parent.repaint();
+        moveTo(targetY);
 
         if (targetY == dragMaxY && !latchedAtBottomFired) {
             latchedAtBottomFired = true;
@@ -113,17 +117,77 @@ public class LeverControl extends JComponent {
         }
     }
 
+    // Nur die Vereinigung aus alter und neuer Position neu zeichnen statt des ganzen Canvas
+    private void moveTo(int newY) {
+        Container parent = getParent();
+        if (parent == null || newY == getY()) return;
+
+        Rectangle damage = getBounds();
+        setLocation(getX(), newY);
+        damage.add(getBounds());
+
+        if (BENCH) {
+            benchRepaint(parent, damage);
+        } else {
+            parent.repaint(damage.x, damage.y, damage.width, damage.height);
+        }
+    }
+
+    // ===== Drag-Benchmark (-Dzeitmaschine.leverBench=true) =====
+    // Zeichnet abwechselnd synchron den ganzen Parent (alt) und nur das Schadensrechteck (neu)
+    // und gibt alle BENCH_REPORT_EVERY Drag-Events die mittlere Paint-Zeit je Variante aus.
+    private static final boolean BENCH = Boolean.getBoolean("zeitmaschine.leverBench");
+    private static final int BENCH_REPORT_EVERY = 60;
+    private long benchFullNanos, benchDamageNanos;
+    private int benchFullCount, benchDamageCount;
+
+    private void benchRepaint(Container parent, Rectangle damage) {
+        if (!(parent instanceof JComponent jc)) {
+            parent.repaint(damage.x, damage.y, damage.width, damage.height);
+            return;
+        }
+
+        boolean full = ((benchFullCount + benchDamageCount) % 2) == 0;
+        long t0 = System.nanoTime();
+        if (full) {
+            jc.paintImmediately(0, 0, jc.getWidth(), jc.getHeight());
+            benchFullNanos += System.nanoTime() - t0;
+            benchFullCount++;
+        } else {
+            jc.paintImmediately(damage);
+            benchDamageNanos += System.nanoTime() - t0;
+            benchDamageCount++;
+        }
+
+        if ((benchFullCount + benchDamageCount) % BENCH_REPORT_EVERY == 0) {
+            System.err.printf("[LeverControl] Paint pro Drag: ganzer Canvas %.3f ms, Schadensrechteck %.3f ms (n=%d)%n",
+                    benchFullNanos / 1_000_000.0 / Math.max(1, benchFullCount),
+                    benchDamageNanos / 1_000_000.0 / Math.max(1, benchDamageCount),
+                    benchFullCount + benchDamageCount);
+        }
+    }
+
     @Override
     protected void paintComponent(Graphics g) {
+        PaintProbe paint = PaintProbe.start();
+        paintLever(g);
+        paint.done("Hebel");
+    }
+
+    private void paintLever(Graphics g) {
         super.paintComponent(g);
         if (image == null) return;
 
-        Graphics2D g2 = (Graphics2D) g.create();
-        try {
-            g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
-            g2.drawImage(image, 0, 0, getWidth(), getHeight(), null);
-        } finally {
-            g2.dispose();
+        int w = getWidth();
+        int h = getHeight();
+        if (w <= 0 || h <= 0) return;
+
+        // Vorskalierte (Multi-Resolution-)Variante statt bilinearer Skalierung pro Paint
+        if (scaled == null || scaledW != w || scaledH != h) {
+            scaled = ScaledImageCache.sized(image, w, h);
+            scaledW = w;
+            scaledH = h;
         }
+        g.drawImage(scaled, 0, 0, null);
     }
 }
\ No newline at end of file
@@ -1,5 +1,3 @@
-import javax.swing.*;
-
 /**
  * DE:
  * Einstiegspunkt der Anwendung. Diese Klasse startet die Swing-GUI auf dem
@@ -17,38 +15,24 @@ public class Main {
 
     /**
      * DE:
-     * Startet die Anwendung. Erstellt ein {@link JFrame}, setzt das Haupt-Panel
-     * ({@link CalendarMachinePanel}) als ContentPane und macht das Fenster sichtbar.
+     * Startet die Anwendung: Kommandozeilen-Abfrage ({@link EntryQuery}) oder die GUI ({@link Gui}).
      *
      * EN:
-     * Starts the application. Creates a {@link JFrame}, sets the main panel
-     * ({@link CalendarMachinePanel}) as content pane and shows the window.
+     * Starts the application: command-line query ({@link EntryQuery}) or the GUI ({@link Gui}).
      */
     public static void main(String[] args) {
-        // DE/EN: invokeLater stellt sicher, dass die GUI-Erstellung im EDT passiert.
-        SwingUtilities.invokeLater(() -> {
-            JFrame frame = new JFrame("Zeitmaschine Kalender");
-
-            // DE: Prozess beenden, wenn das Hauptfenster geschlossen wird.
-            // EN: Exit the JVM when the main window is closed.
-            frame.setDefaultCloseOperation(WindowConstants.EXIT_ON_CLOSE);
-
-            // DE: Unser Hauptpanel enthält die komplette „Maschinen“-UI.
-            // EN: The main panel contains the full “machine” UI.
-            frame.setContentPane(new CalendarMachinePanel());
-
-            // DE: pack() nimmt PreferredSize der Inhalte (z.B. Canvas-Größe) als Grundlage.
-            // EN: pack() sizes the frame based on preferred sizes of the content.
-            frame.pack();
-
-            // DE: Feste Größe – passt zum Pixel-Art/Assets-Layout.
-            // EN: Fixed size – matches the pixel-perfect asset layout.
-            frame.setResizable(false);
-
-            // DE/EN: Zentriert auf dem Bildschirm.
-            frame.setLocationRelativeTo(null);
-
-            frame.setVisible(true);
-        });
+        // DE: Kommandozeile (--list, --range, --search, --import-ics) ohne GUI – AWT/Swing wird dabei nie geladen.
+        // EN: Headless command mode (--list, --range, --search, --import-ics) – never touches AWT/Swing.
+        if (EntryQuery.handles(args)) {
+            int exit = EntryQuery.run(args, System.out, System.err);
+            // DE: Bei 0 einfach zurückkehren – System.exit kostet unter JDK 21 ~10 ms (Logger-Lookup in Runtime.exit).
+            // EN: Plain return on 0 – System.exit costs ~10 ms on JDK 21 (logger lookup in Runtime.exit).
+            if (exit != 0) System.exit(exit);
+            return;
+        }
+
+        // DE: Die GUI liegt in eigener Klasse – sonst lädt schon die Verifikation von Main AWT/Swing-Klassen.
+        // EN: The GUI lives in its own class – otherwise verifying Main alone would load AWT/Swing classes.
+        Gui.launch(args);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,175 @@
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.CodeSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Laufzeit-Seite von {@link AssetPacker}: mappt das Archiv in den Speicher und
+ * liefert die Bilder direkt aus den rohen ARGB-Pixeln – ohne PNG-Dekodierung.
+ *
+ * Das Archiv wird unter {@code -Dzeitmaschine.assetPack=...} gesucht, sonst unter {@code assets/assets.pack}
+ * im Arbeitsverzeichnis und zuletzt neben dem Jar (dorthin legt es {@code mvn package}). Ein beschädigtes
+ * Archiv wird ganz ignoriert; Einträge, deren PNG sich seit dem Packen geändert hat, werden übergangen –
+ * in beiden Fällen lädt {@link ImageLoader} die PNG.
+ */
+final class PackedAssets {
+    static final String DEFAULT_FILE_NAME = "assets.pack";
+
+    private static final class Entry {
+        final int width;
+        final int height;
+        final long offset;
+        final long sourceSize;
+        final long sourceModified;
+
+        private Entry(int width, int height, long offset, long sourceSize, long sourceModified) {
+            this.width = width;
+            this.height = height;
+            this.offset = offset;
+            this.sourceSize = sourceSize;
+            this.sourceModified = sourceModified;
+        }
+    }
+
+    private final MappedByteBuffer mapped;
+    private final Map<String, Entry> toc;
+
+    private PackedAssets(MappedByteBuffer mapped, Map<String, Entry> toc) {
+        this.mapped = mapped;
+        this.toc = toc;
+    }
+
+    // Lazy: erst beim ersten Zugriff öffnen; null = kein (gültiges) Archiv vorhanden
+    private static volatile PackedAssets instance;
+    private static volatile boolean probed;
+
+    static PackedAssets get() {
+        if (!probed) {
+            synchronized (PackedAssets.class) {
+                if (!probed) {
+                    String configured = System.getProperty("zeitmaschine.assetPack");
+                    instance = open((configured != null) ? Paths.get(configured) : defaultFile());
+                    probed = true;
+                }
+            }
+        }
+        return instance;
+    }
+
+    // assets/assets.pack im Arbeitsverzeichnis, sonst neben dem Jar bzw. Klassenverzeichnis
+    private static Path defaultFile() {
+        Path local = Paths.get("assets", DEFAULT_FILE_NAME);
+        if (Files.isRegularFile(local)) return local;
+
+        CodeSource cs = PackedAssets.class.getProtectionDomain().getCodeSource();
+        if (cs == null) return local;
+        try {
+            Path code = Paths.get(cs.getLocation().toURI());
+            Path dir = Files.isDirectory(code) ? code : code.getParent();
+            return (dir != null) ? dir.resolve(DEFAULT_FILE_NAME) : local;
+        } catch (URISyntaxException | IllegalArgumentException | FileSystemNotFoundException ignored) {
+            return local;
+        }
+    }
+
+    static PackedAssets open(Path file) {
+        if (!Files.isRegularFile(file)) return null;
+
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            // Das Mapping bleibt nach dem Schließen des Channels gültig
+            MappedByteBuffer buf = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+
+            if (buf.getInt() != AssetPacker.MAGIC || buf.getInt() != AssetPacker.VERSION) return null;
+
+            int count = buf.getInt();
+            if (count < 0) return null;
+
+            Map<String, Entry> toc = new HashMap<>();
+            for (int i = 0; i < count; i++) {
+                int len = buf.getShort() & 0xFFFF;
+                byte[] name = new byte[len];
+                buf.get(name);
+                int w = buf.getInt();
+                int h = buf.getInt();
+                long offset = buf.getLong();
+                long sourceSize = buf.getLong();
+                long sourceModified = buf.getLong();
+                toc.put(new String(name, StandardCharsets.UTF_8), new Entry(w, h, offset, sourceSize, sourceModified));
+            }
+
+            // Pixel jedes Eintrags müssen hinter dem Inhaltsverzeichnis vollständig in der Datei liegen
+            // (abgeschnittene Datei o.ä.); slice() nimmt int-Offsets
+            long headerEnd = buf.position();
+            long size = buf.capacity();
+            for (Entry e : toc.values()) {
+                long bytes = 4L * e.width * e.height;
+                if (e.width <= 0 || e.height <= 0 || e.offset < headerEnd || bytes > Integer.MAX_VALUE
+                        || e.offset > Integer.MAX_VALUE || e.offset + bytes > size) {
+                    return null;
+                }
+            }
+            return new PackedAssets(buf, toc);
+        } catch (IOException | RuntimeException ignored) {
+            // kaputtes Archiv -> wie "nicht vorhanden" behandeln, ImageLoader fällt auf PNGs zurück
+            return null;
+        }
+    }
+
+    /**
+     * Liefert das Bild als TYPE_INT_ARGB oder null, wenn es nicht im Archiv liegt oder veraltet ist.
+     * Die PNG wird dafür nicht gelesen: liegt sie als Datei vor, müssen nur Größe und Änderungszeit
+     * zum Packzeitpunkt passen. PNGs im Jar/Klassenpfad hält der Build aktuell (packt bei jedem package neu).
+     */
+    BufferedImage load(String path) {
+        Entry e = toc.get(normalize(path));
+        if (e == null || isStale(path, e)) return null;
+
+        try {
+            ByteBuffer region = mapped.slice((int) e.offset, 4 * e.width * e.height);
+            IntBuffer pixels = region.asIntBuffer();
+
+            int[] argb = new int[e.width * e.height];
+            pixels.get(argb);
+
+            // Über den Raster setzen statt getData() zu "stehlen" – so bleibt das Bild beschleunigbar
+            BufferedImage img = new BufferedImage(e.width, e.height, BufferedImage.TYPE_INT_ARGB);
+            img.getRaster().setDataElements(0, 0, e.width, e.height, argb);
+            return img;
+        } catch (IndexOutOfBoundsException | BufferUnderflowException ignored) {
+            // open() hat die Grenzen schon geprüft – falls doch, eben die PNG
+            return null;
+        }
+    }
+
+    private static boolean isStale(String path, Entry e) {
+        try {
+            BasicFileAttributes a = Files.readAttributes(Paths.get(path), BasicFileAttributes.class);
+            return a.size() != e.sourceSize || a.lastModifiedTime().toMillis() != e.sourceModified;
+        } catch (NoSuchFileException ignored) {
+            return false;
+        } catch (IOException | InvalidPathException ignored) {
+            return true;
+        }
+    }
+
+    private static String normalize(String path) {
+        String p = path.replace('\\', '/');
+        return p.startsWith("/") ? p.substring(1) : p;
+    }
+}
@@ -0,0 +1,112 @@
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.HierarchyEvent;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ruhemodus: Ist das Hauptfenster minimiert oder nicht mehr sichtbar, werden alle
+ * registrierten Animationen und Timer angehalten. Beim Zurückkehren springen sie direkt
+ * in ihren Endzustand, statt verpasste Frames nachzuholen.
+ *
+ * Verdeckung durch andere Fenster meldet AWT nicht zuverlässig; erkannt werden
+ * Minimieren (WindowListener) und Unsichtbarwerden (HierarchyListener SHOWING_CHANGED).
+ * Nur auf dem EDT benutzen.
+ */
+public final class PowerManager {
+    private PowerManager() {}
+
+    /** Etwas, das im Ruhemodus angehalten werden kann. */
+    public interface Suspendable {
+        /** Timer anhalten, Zustand behalten. */
+        void suspend();
+
+        /** Fortsetzen – dabei direkt in den Endzustand springen. */
+        void resume();
+    }
+
+    // -Dzeitmaschine.powerStats=true -> CPU-Zeit während der Pause ausgeben
+    private static final boolean REPORT = Boolean.getBoolean("zeitmaschine.powerStats");
+
+    private static final List<Suspendable> REGISTERED = new ArrayList<>();
+    private static boolean suspended;
+
+    private static long suspendedAtNanos;
+    private static long cpuAtSuspendNanos;
+
+    public static void register(Suspendable s) {
+        REGISTERED.add(s);
+        if (suspended) s.suspend();
+    }
+
+    public static void unregister(Suspendable s) {
+        REGISTERED.remove(s);
+    }
+
+    public static boolean isSuspended() {
+        return suspended;
+    }
+
+    /** Überwacht das Hauptfenster. */
+    public static void install(JFrame frame) {
+        frame.addWindowListener(new WindowAdapter() {
+            @Override
+            public void windowIconified(WindowEvent e) {
+                suspendAll();
+            }
+
+            @Override
+            public void windowDeiconified(WindowEvent e) {
+                resumeAll();
+            }
+        });
+
+        Component content = frame.getContentPane();
+        content.addHierarchyListener(e -> {
+            if ((e.getChangeFlags() & HierarchyEvent.SHOWING_CHANGED) == 0) return;
+            if (content.isShowing()) {
+                if ((frame.getExtendedState() & Frame.ICONIFIED) == 0) resumeAll();
+            } else {
+                suspendAll();
+            }
+        });
+    }
+
+    public static void suspendAll() {
+        if (suspended) return;
+        suspended = true;
+
+        Timeline.pauseAll();
+        for (Suspendable s : new ArrayList<>(REGISTERED)) s.suspend();
+
+        if (REPORT) {
+            suspendedAtNanos = System.nanoTime();
+            cpuAtSuspendNanos = processCpuNanos();
+        }
+    }
+
+    public static void resumeAll() {
+        if (!suspended) return;
+        suspended = false;
+
+        if (REPORT) {
+            double secs = (System.nanoTime() - suspendedAtNanos) / 1e9;
+            double cpuMs = (processCpuNanos() - cpuAtSuspendNanos) / 1e6;
+            System.err.printf("[PowerManager] Pause %.1f s, CPU %.1f ms (%.2f%%)%n",
+                    secs, cpuMs, secs > 0 ? cpuMs / (secs * 10.0) : 0.0);
+        }
+
+        for (Suspendable s : new ArrayList<>(REGISTERED)) s.resume();
+        Timeline.resumeAll();
+    }
+
+    private static long processCpuNanos() {
+        if (ManagementFactory.getOperatingSystemMXBean() instanceof com.sun.management.OperatingSystemMXBean os) {
+            return os.getProcessCpuTime();
+        }
+        return 0L;
+    }
+}
@@ -1,3 +1,5 @@
+import metrics.PaintProbe;
+
 import javax.swing.*;
 import java.awt.*;
 import java.awt.geom.AffineTransform;
@@ -7,6 +9,9 @@ public class RotatableSprite extends JComponent {
     private final BufferedImage image;
     private double angleRadians;
 
+    // aktuelle vorskalierte Variante (Gerätepixel)
+    private BufferedImage variant;
+
     public RotatableSprite(BufferedImage image) {
         this.image = image;
         setOpaque(false);
@@ -23,6 +28,12 @@ public class RotatableSprite extends JComponent {
 
     @Override
     protected void paintComponent(Graphics g) {
+        PaintProbe paint = PaintProbe.start();
+        paintRotated(g);
+        paint.done("Zahnrad");
+    }
+
+    private void paintRotated(Graphics g) {
         super.paintComponent(g);
         if (image == null) return;
 
@@ -32,23 +43,42 @@ public class RotatableSprite extends JComponent {
 
         Graphics2D g2 = (Graphics2D) g.create();
         try {
-            g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
-            g2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
-            g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            // Vorskalierte Variante in Gerätepixeln; zur Laufzeit bleibt nur noch die Drehung
+            double scale = ScaledImageCache.deviceScale(g2);
+            int vw = (int) Math.round(cw * scale);
+            int vh = (int) Math.round(ch * scale);
+            if (variant == null || variant.getWidth() != vw || variant.getHeight() != vh) {
+                variant = ScaledImageCache.scaled(image, vw, vh);
+            }
 
             double cx = cw / 2.0;
             double cy = ch / 2.0;
 
-            double sx = cw / (double) image.getWidth();
-            double sy = ch / (double) image.getHeight();
+            if (angleRadians == 0.0) {
+                g2.drawImage(variant, 0, 0, cw, ch, null);
+                return;
+            }
+
+            // Bei knappem Frame-Budget ohne Glättung drehen
+            if (EffectQuality.current().antialias) {
+                g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            } else {
+                g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+                g2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_SPEED);
+            }
+
+            double sx = cw / (double) variant.getWidth();
+            double sy = ch / (double) variant.getHeight();
 
             AffineTransform at = new AffineTransform();
             at.translate(cx, cy);
             at.rotate(angleRadians);
             at.scale(sx, sy);
-            at.translate(-image.getWidth() / 2.0, -image.getHeight() / 2.0);
+            at.translate(-variant.getWidth() / 2.0, -variant.getHeight() / 2.0);
 
-            g2.drawImage(image, at, null);
+            g2.drawImage(variant, at, null);
         } finally {
             g2.dispose();
         }
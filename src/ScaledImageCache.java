@@ -0,0 +1,196 @@
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.AbstractMultiResolutionImage;
+import java.awt.image.BufferedImage;
+import java.lang.ref.SoftReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Gemeinsamer Cache für vorskalierte Bildvarianten.
+ *
+ * Statt bei jedem Paint {@code drawImage(img, 0, 0, w, h)} bilinear zu skalieren, wird jede
+ * benötigte Zielgröße einmal in hoher Qualität erzeugt (schrittweises Halbieren beim
+ * Verkleinern) und danach nur noch 1:1 geblittet.
+ *
+ * Schlüssel: (Quellbild, Zielgröße in Gerätepixeln); je Quellbild gibt es nur wenige Größen, die
+ * linear gesucht werden (ohne Long-Schlüssel pro Abfrage). Auf HiDPI-Bildschirmen liefert
+ * {@link #sized(BufferedImage, int, int)} ein Multi-Resolution-Image, dessen Varianten
+ * genau in Gerätepixeln erzeugt werden – so fällt auch dort keine Laufzeitskalierung an.
+ */
+public final class ScaledImageCache {
+    private ScaledImageCache() {}
+
+    // Quellbilder nur schwach, Varianten nur weich referenziert
+    private static final Map<BufferedImage, List<Variant<BufferedImage>>> VARIANTS = new WeakHashMap<>();
+    private static final Map<BufferedImage, List<Variant<Sized>>> SIZED = new WeakHashMap<>();
+
+    // zuletzt gesehene Bildschirm-Konfiguration und ihre Skalierung (wechselt nur mit dem Bildschirm)
+    private record ScreenScale(GraphicsConfiguration config, double scale) {}
+    private static volatile ScreenScale screenScale;
+
+    /** Variante von {@code src} mit genau {@code w}×{@code h} Pixeln. */
+    public static BufferedImage scaled(BufferedImage src, int w, int h) {
+        if (src == null) return null;
+        w = Math.max(1, w);
+        h = Math.max(1, h);
+        if (src.getWidth() == w && src.getHeight() == h) return src;
+
+        synchronized (VARIANTS) {
+            List<Variant<BufferedImage>> perImage = VARIANTS.get(src);
+            BufferedImage cached = (perImage != null) ? find(perImage, w, h) : null;
+            if (cached != null) return cached;
+        }
+
+        BufferedImage result = ImageLoader.toCompatible(resample(src, w, h));
+        synchronized (VARIANTS) {
+            put(VARIANTS.computeIfAbsent(src, k -> new ArrayList<>(2)), w, h, result);
+        }
+        return result;
+    }
+
+    /**
+     * Bild mit logischer Größe {@code w}×{@code h}; Java2D wählt beim Zeichnen die Variante
+     * für die aktuelle Geräteskalierung, die dann hier (einmalig) vorskaliert wird.
+     */
+    public static Image sized(BufferedImage src, int w, int h) {
+        if (src == null) return null;
+        w = Math.max(1, w);
+        h = Math.max(1, h);
+
+        synchronized (SIZED) {
+            List<Variant<Sized>> perImage = SIZED.computeIfAbsent(src, k -> new ArrayList<>(2));
+            Sized cached = find(perImage, w, h);
+            if (cached == null) {
+                cached = new Sized(src, w, h);
+                put(perImage, w, h, cached);
+            }
+            return cached;
+        }
+    }
+
+    /**
+     * Geräteskalierung (HiDPI) einer Graphics, z.B. 1.0, 1.25, 2.0. Auf dem Bildschirm aus der
+     * Grafikkonfiguration, zwischengespeichert – getTransform() kopiert bei jedem Aufruf, das wäre
+     * eine Allokation pro Frame. In Bildpuffern (z.B. HeadlessHarness mit {@code --scale}) skaliert
+     * der Aufrufer selbst, dort zählt weiter die Transformation der Graphics.
+     */
+    public static double deviceScale(Graphics2D g) {
+        GraphicsConfiguration gc = g.getDeviceConfiguration();
+        if (gc == null || gc.getDevice().getType() == GraphicsDevice.TYPE_IMAGE_BUFFER) {
+            return scaleOf(g.getTransform());
+        }
+
+        ScreenScale cached = screenScale;
+        if (cached == null || cached.config() != gc) {
+            cached = new ScreenScale(gc, scaleOf(gc.getDefaultTransform()));
+            screenScale = cached;
+        }
+        return cached.scale();
+    }
+
+    private static double scaleOf(AffineTransform t) {
+        return Math.max(1e-3, Math.hypot(t.getScaleX(), t.getShearY()));
+    }
+
+    private static <T> T find(List<Variant<T>> variants, int w, int h) {
+        for (int i = 0; i < variants.size(); i++) {
+            Variant<T> v = variants.get(i);
+            if (v.width == w && v.height == h) return v.ref.get();
+        }
+        return null;
+    }
+
+    private static <T> void put(List<Variant<T>> variants, int w, int h, T value) {
+        for (int i = 0; i < variants.size(); i++) {
+            Variant<T> v = variants.get(i);
+            if (v.width == w && v.height == h) {
+                v.ref = new SoftReference<>(value);
+                return;
+            }
+        }
+        variants.add(new Variant<>(w, h, value));
+    }
+
+    private static BufferedImage resample(BufferedImage src, int w, int h) {
+        BufferedImage current = src;
+        int cw = src.getWidth();
+        int ch = src.getHeight();
+
+        // Beim Verkleinern schrittweise halbieren – bilinear über mehr als Faktor 2 verliert sonst Details
+        while (cw / 2 >= w && ch / 2 >= h) {
+            cw /= 2;
+            ch /= 2;
+            current = draw(current, cw, ch, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        }
+
+        if (cw == w && ch == h) return current;
+        return draw(current, w, h, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+    }
+
+    private static BufferedImage draw(BufferedImage src, int w, int h, Object interpolation) {
+        BufferedImage dst = new BufferedImage(w, h, BufferedImage.TYPE_INT_ARGB_PRE);
+        Graphics2D g2 = dst.createGraphics();
+        try {
+            g2.setComposite(AlphaComposite.Src);
+            g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, interpolation);
+            g2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g2.drawImage(src, 0, 0, w, h, null);
+        } finally {
+            g2.dispose();
+        }
+        return dst;
+    }
+
+    /** Eine Größenvariante; nur weich referenziert. */
+    private static final class Variant<T> {
+        final int width;
+        final int height;
+        SoftReference<T> ref;
+
+        Variant(int width, int height, T value) {
+            this.width = width;
+            this.height = height;
+            this.ref = new SoftReference<>(value);
+        }
+    }
+
+    private static final class Sized extends AbstractMultiResolutionImage {
+        private final BufferedImage src;
+        private final int width;
+        private final int height;
+
+        private Sized(BufferedImage src, int width, int height) {
+            this.src = src;
+            this.width = width;
+            this.height = height;
+        }
+
+        @Override
+        public int getWidth(java.awt.image.ImageObserver observer) {
+            return width;
+        }
+
+        @Override
+        public int getHeight(java.awt.image.ImageObserver observer) {
+            return height;
+        }
+
+        @Override
+        protected Image getBaseImage() {
+            return scaled(src, width, height);
+        }
+
+        @Override
+        public Image getResolutionVariant(double destImageWidth, double destImageHeight) {
+            return scaled(src, (int) Math.ceil(destImageWidth - 1e-6), (int) Math.ceil(destImageHeight - 1e-6));
+        }
+
+        @Override
+        public List<Image> getResolutionVariants() {
+            return List.of(getBaseImage());
+        }
+    }
+}
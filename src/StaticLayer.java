@@ -0,0 +1,120 @@
+import metrics.PaintProbe;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+import java.util.Arrays;
+
+/**
+ * Unveränderliche Ebene(n) der Maschine.
+ *
+ * Alle übergebenen Bilder werden (in Reihenfolge, unterstes zuerst) einmalig
+ * auf die Komponentengröße skaliert und in ein {@link VolatileImage} geflacht.
+ * Pro Repaint wird danach nur noch dieser Cache 1:1 geblittet.
+ *
+ * Neu aufgebaut wird nur, wenn sich Bilder oder Größe ändern oder der
+ * Grafikspeicher verloren ging (contentsLost).
+ */
+public class StaticLayer extends JComponent {
+    private BufferedImage[] images;
+
+    private VolatileImage cache;
+    private boolean dirty = true;
+
+    public StaticLayer(BufferedImage... images) {
+        this.images = images.clone();
+        setOpaque(false);
+    }
+
+    public void setImages(BufferedImage... images) {
+        if (Arrays.equals(this.images, images)) return;
+        this.images = images.clone();
+        dirty = true;
+        repaint();
+    }
+
+    @Override
+    public void setBounds(int x, int y, int width, int height) {
+        if (width != getWidth() || height != getHeight()) dirty = true;
+        super.setBounds(x, y, width, height);
+    }
+
+    @Override
+    public void removeNotify() {
+        super.removeNotify();
+        if (cache != null) {
+            cache.flush();
+            cache = null;
+        }
+        dirty = true;
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        PaintProbe paint = PaintProbe.start();
+        paintLayer(g);
+        paint.done("StaticLayer");
+    }
+
+    private void paintLayer(Graphics g) {
+        int w = getWidth();
+        int h = getHeight();
+        if (w <= 0 || h <= 0) return;
+
+        GraphicsConfiguration gc = getGraphicsConfiguration();
+        if (gc == null) {
+            // Noch nicht angezeigt (z.B. offscreen) -> direkt zeichnen
+            renderLayers((Graphics2D) g, w, h);
+            return;
+        }
+
+        // Übliches VolatileImage-Muster: validieren, ggf. neu rendern, zeichnen, auf Verlust prüfen
+        do {
+            int state = (cache == null || cache.getWidth() != w || cache.getHeight() != h)
+                    ? VolatileImage.IMAGE_INCOMPATIBLE
+                    : cache.validate(gc);
+
+            if (state == VolatileImage.IMAGE_INCOMPATIBLE) {
+                if (cache != null) cache.flush();
+                cache = gc.createCompatibleVolatileImage(w, h, Transparency.TRANSLUCENT);
+                dirty = true;
+            } else if (state == VolatileImage.IMAGE_RESTORED) {
+                dirty = true;
+            }
+
+            if (dirty) {
+                rebuild(w, h);
+            }
+
+            g.drawImage(cache, 0, 0, null);
+        } while (cache.contentsLost());
+    }
+
+    private void rebuild(int w, int h) {
+        Graphics2D g2 = cache.createGraphics();
+        try {
+            g2.setComposite(AlphaComposite.Clear);
+            g2.fillRect(0, 0, w, h);
+            g2.setComposite(AlphaComposite.SrcOver);
+            renderLayers(g2, w, h);
+        } finally {
+            g2.dispose();
+        }
+        dirty = false;
+    }
+
+    private void renderLayers(Graphics2D g, int w, int h) {
+        Graphics2D g2 = (Graphics2D) g.create();
+        try {
+            g2.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g2.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            for (BufferedImage img : images) {
+                // Multi-Resolution-Variante: auf HiDPI-Zielen wird in Gerätepixeln vorskaliert
+                if (img != null) g2.drawImage(ScaledImageCache.sized(img, w, h), 0, 0, null);
+            }
+        } finally {
+            g2.dispose();
+        }
+    }
+}
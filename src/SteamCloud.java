@@ -1,98 +1,275 @@
+import metrics.PaintProbe;
+
 import javax.swing.*;
 import java.awt.*;
-import java.util.concurrent.ThreadLocalRandom;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.random.RandomGenerator;
 
+/**
+ * Dampf als Partikelsystem.
+ *
+ * Die Partikel liegen als "Struct of Arrays" in primitiven float-Arrays (Pool fester Größe),
+ * tote Partikel werden durch das letzte lebende ersetzt. Pro Frame wird nichts allokiert;
+ * gezeichnet wird ein vorgerendertes Puff-Sprite in wenigen Größenstufen per 1:1-Blit.
+ */
 public class SteamCloud extends JComponent {
+
+    /**
+     * Konfiguration einer Düse.
+     *
+     * @param originX      Austrittspunkt X, relativ zur Breite (0..1)
+     * @param originY      Austrittspunkt Y, relativ zur Höhe (0..1)
+     * @param spawnPerTick neue Partikel pro Tick (Bruchteile werden aufsummiert)
+     * @param riseSpeed    Steiggeschwindigkeit in px/Tick
+     * @param spread       seitliche Streuung der Startgeschwindigkeit in px/Tick
+     * @param lifeTicks    Lebensdauer eines Partikels in Ticks
+     * @param puffSize     Puff-Durchmesser relativ zur Breite
+     * @param emitTicks    wie lange ausgestoßen wird; 0 = aus der Höhe ableiten
+     */
+    public record Emitter(float originX, float originY, float spawnPerTick, float riseSpeed,
+                          float spread, int lifeTicks, float puffSize, int emitTicks) {
+        public static final Emitter DEFAULT = new Emitter(0.5f, 0.80f, 1.5f, 0.9f, 0.35f, 75, 0.40f, 0);
+    }
+
+    private static final int MAX_PARTICLES = 512;
+    private static final int SIZE_STEPS = 12;
+    private static final Color PUFF_COLOR = new Color(225, 225, 225);
+    private static final Map<Integer, BufferedImage[]> PUFFS = new HashMap<>();
+
+    // ===== Partikel-Pool (Struct of Arrays) =====
+    private final float[] px = new float[MAX_PARTICLES];
+    private final float[] py = new float[MAX_PARTICLES];
+    private final float[] vx = new float[MAX_PARTICLES];
+    private final float[] vy = new float[MAX_PARTICLES];
+    private final float[] age = new float[MAX_PARTICLES];
+    private final float[] life = new float[MAX_PARTICLES];
+    private int count;
+
+    private Emitter emitter = Emitter.DEFAULT;
+    private int particleBudget = MAX_PARTICLES;
+
+    private float spawnAccumulator;
+    private int emitTicksLeft;
+
+    // Gesamt-Alpha der Wolke (Ein-/Ausblenden wie bisher)
     private float alpha = 0f;
-    private float yOffset = 0f;
-    private float driftX = 0f;
 
-    private Timer timer;
+    private boolean running;
 
     // Neu: wenn true, wird nur noch ausgeblendet und dann gestoppt
     private boolean finishing = false;
 
+    // Puff-Sprites je Größenstufe, passend zur aktuellen Komponentengröße
+    private BufferedImage[] puffs;
+    private int puffsForWidth = -1;
+
     public SteamCloud() {
         setOpaque(false);
         setVisible(false);
     }
 
+    public void setEmitter(Emitter emitter) {
+        this.emitter = (emitter != null) ? emitter : Emitter.DEFAULT;
+        puffsForWidth = -1;
+    }
+
+    public Emitter getEmitter() {
+        return emitter;
+    }
+
+    /** Obergrenze lebender Partikel (z.B. für schwächere Rechner). */
+    public void setParticleBudget(int budget) {
+        this.particleBudget = Math.max(0, Math.min(MAX_PARTICLES, budget));
+    }
+
+    public int getParticleCount() {
+        return count;
+    }
+
+    /**
+     * Startet den Ausstoß. Getaktet wird über {@link #steamTick()} (durch die {@link Timeline}).
+     */
     public void startSteam() {
         stopSteam();
         setVisible(true);
 
         alpha = 0.20f;
-        yOffset = 0f;
-        driftX = 0f;
         finishing = false;
+        running = true;
+        count = 0;
+        spawnAccumulator = 0f;
+        emitTicksLeft = (emitter.emitTicks() > 0)
+                ? emitter.emitTicks()
+                : Math.round(getHeight() * 0.9f / 0.55f); // so lange wie die alte Wolke zum Aufsteigen brauchte
+    }
 
-        timer = new Timer(33, e -> {
-            // Bewegung
-            yOffset -= 0.55f;
-            driftX += (ThreadLocalRandom.current().nextFloat() - 0.5f) * 0.35f;
-
-            // Einblenden am Anfang, aber nicht über 1.0
-            if (!finishing) {
-                alpha = Math.min(1f, alpha + 0.015f);
-            } else {
-                // Ausfaden am Ende
-                alpha = Math.max(0f, alpha - 0.04f);
-                if (alpha <= 0.001f) {
-                    stopSteam();
-                    return;
-                }
-            }
+    /**
+     * Ein Simulationsschritt (ca. 33 ms).
+     *
+     * @return {@code true}, solange noch Dampf zu sehen ist
+     */
+    public boolean steamTick() {
+        if (!running) return false;
 
-            // Neu: Sobald die Wolke weit genug oben ist -> finishing starten (kein Reset mehr)
-            if (!finishing && yOffset < -getHeight() * 0.9f) {
-                finishing = true;
+        // Einblenden am Anfang, aber nicht über 1.0
+        if (!finishing) {
+            alpha = Math.min(1f, alpha + 0.015f);
+        } else {
+            // Ausfaden am Ende
+            alpha = Math.max(0f, alpha - 0.04f);
+            if (alpha <= 0.001f || count == 0) {
+                stopSteam();
+                return false;
             }
+        }
 
-            repaint();
-        });
-        timer.start();
+        if (emitTicksLeft > 0) {
+            emit();
+            emitTicksLeft--;
+        } else if (!finishing) {
+            finishing = true;
+        }
+
+        update();
+        repaint();
+        return true;
     }
 
     public void stopSteam() {
-        if (timer != null) {
-            timer.stop();
-            timer = null;
-        }
+        running = false;
         finishing = false;
+        count = 0;
         setVisible(false);
         repaint();
     }
 
+    private void emit() {
+        int w = getWidth();
+        int h = getHeight();
+        if (w <= 0 || h <= 0) return;
+
+        RandomGenerator rnd = AnimationClock.random();
+        spawnAccumulator += emitter.spawnPerTick();
+
+        float ox = emitter.originX() * w;
+        float oy = emitter.originY() * h;
+        int limit = Math.min(particleBudget, MAX_PARTICLES);
+
+        while (spawnAccumulator >= 1f) {
+            spawnAccumulator -= 1f;
+            if (count >= limit) continue;
+
+            int i = count++;
+            px[i] = ox + (rnd.nextFloat() - 0.5f) * w * 0.15f;
+            py[i] = oy;
+            vx[i] = (rnd.nextFloat() - 0.5f) * 2f * emitter.spread();
+            vy[i] = -emitter.riseSpeed() * (0.75f + 0.5f * rnd.nextFloat());
+            age[i] = 0f;
+            life[i] = emitter.lifeTicks() * (0.8f + 0.4f * rnd.nextFloat());
+        }
+    }
+
+    private void update() {
+        RandomGenerator rnd = AnimationClock.random();
+
+        int i = 0;
+        while (i < count) {
+            age[i] += 1f;
+            if (age[i] >= life[i]) {
+                // Swap-Remove: letztes lebendes Partikel an diese Stelle
+                int last = --count;
+                px[i] = px[last];
+                py[i] = py[last];
+                vx[i] = vx[last];
+                vy[i] = vy[last];
+                age[i] = age[last];
+                life[i] = life[last];
+                continue;
+            }
+
+            // leichtes seitliches Wabern, nach oben etwas abbremsen
+            vx[i] += (rnd.nextFloat() - 0.5f) * 0.12f;
+            vy[i] *= 0.995f;
+            px[i] += vx[i];
+            py[i] += vy[i];
+            i++;
+        }
+    }
+
     @Override
     protected void paintComponent(Graphics g) {
-        super.paintComponent(g);
+        PaintProbe paint = PaintProbe.start();
+        paintPuffs(g);
+        paint.done("Dampf");
+    }
 
+    private void paintPuffs(Graphics g) {
         int w = getWidth();
         int h = getHeight();
-        if (w <= 0 || h <= 0) return;
+        if (w <= 0 || h <= 0 || count == 0) return;
 
-        Graphics2D g2 = (Graphics2D) g.create();
-        try {
-            g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-            g2.setComposite(AlphaComposite.SrcOver.derive(0.55f * Math.max(0f, Math.min(1f, alpha))));
+        if (puffs == null || puffsForWidth != w) {
+            puffs = puffSprites(Math.max(4, Math.round(w * emitter.puffSize())));
+            puffsForWidth = w;
+        }
 
-            int baseY = (int) (h * 0.70f + yOffset);
-            int baseX = (int) (w * 0.50f + driftX);
+        Graphics2D g2 = (Graphics2D) g;
+        Composite old = g2.getComposite();
 
-            for (int i = 0; i < 6; i++) {
-                float k = 1f - (i / 6f);
+        float cloudAlpha = 0.55f * Math.max(0f, Math.min(1f, alpha));
+        for (int i = 0; i < count; i++) {
+            float t = age[i] / life[i]; // 0..1
 
-                int puffW = (int) (w * (0.55 + 0.35 * k));
-                int puffH = (int) (h * (0.18 + 0.20 * k));
+            // wächst über die Lebenszeit, blendet am Anfang ein und am Ende aus
+            int step = Math.min(SIZE_STEPS - 1, (int) (t * SIZE_STEPS));
+            float fade = (t < 0.2f) ? (t / 0.2f) : (t > 0.6f ? (1f - t) / 0.4f : 1f);
 
-                int x = baseX - puffW / 2 + (int) (Math.sin((yOffset + i * 11) * 0.06) * 8);
-                int y = baseY - (int) (i * h * 0.12);
+            BufferedImage puff = puffs[step];
+            int half = puff.getWidth() / 2;
 
-                g2.setColor(new Color(225, 225, 225, (int) (255 * (0.18 + 0.10 * k))));
-                g2.fillOval(x, y, puffW, puffH);
+            g2.setComposite(AlphaComposites.srcOver(cloudAlpha * fade));
+            g2.drawImage(puff, (int) px[i] - half, (int) py[i] - half, null);
+        }
+
+        g2.setComposite(old);
+    }
+
+    // Weicher, radial auslaufender Puff; von 50% bis 120% der Grundgröße
+    private static BufferedImage[] puffSprites(int baseSize) {
+        synchronized (PUFFS) {
+            BufferedImage[] cached = PUFFS.get(baseSize);
+            if (cached != null) return cached;
+        }
+
+        BufferedImage[] sprites = new BufferedImage[SIZE_STEPS];
+        for (int s = 0; s < SIZE_STEPS; s++) {
+            float scale = 0.5f + 0.7f * s / (SIZE_STEPS - 1f);
+            int d = Math.max(2, Math.round(baseSize * scale));
+
+            BufferedImage img = new BufferedImage(d, d, BufferedImage.TYPE_INT_ARGB_PRE);
+            Graphics2D g2 = img.createGraphics();
+            try {
+                g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+                float r = d / 2f;
+                g2.setPaint(new RadialGradientPaint(r, r, r,
+                        new float[]{0f, 0.55f, 1f},
+                        new Color[]{
+                                new Color(PUFF_COLOR.getRed(), PUFF_COLOR.getGreen(), PUFF_COLOR.getBlue(), 90),
+                                new Color(PUFF_COLOR.getRed(), PUFF_COLOR.getGreen(), PUFF_COLOR.getBlue(), 55),
+                                new Color(PUFF_COLOR.getRed(), PUFF_COLOR.getGreen(), PUFF_COLOR.getBlue(), 0)
+                        }));
+                g2.fillOval(0, 0, d, d);
+            } finally {
+                g2.dispose();
             }
-        } finally {
-            g2.dispose();
+            sprites[s] = ImageLoader.toCompatible(img);
+        }
+
+        synchronized (PUFFS) {
+            PUFFS.put(baseSize, sprites);
         }
+        return sprites;
     }
-}
\ No newline at end of file
+}
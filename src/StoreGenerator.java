@@ -0,0 +1,181 @@
+import DayEntriesWindow.DayOccurrences;
+import DayEntriesWindow.RepeatMode;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Werkzeug für Lasttests: erzeugt einen synthetischen Eintrags-Store und schreibt ihn im
+ * Format der Anwendung ({@code entries.properties}, siehe {@link EntryStoreIO}).
+ *
+ * Aufruf: {@code java StoreGenerator --out=big.properties [--years=20] [--seed=42] ...}
+ * <ul>
+ *   <li>{@code --start=2000-01-01}, {@code --years=5}: Zeitraum</li>
+ *   <li>{@code --per-day=1.5}: mittlere Einträge pro Tag (Poisson), höchstens {@code --max-per-day=6}</li>
+ *   <li>{@code --yearly=0.05}, {@code --monthly=0.02}, {@code --weekdays=0.005}: Anteil der Wiederholer</li>
+ *   <li>{@code --min-len=6}, {@code --max-len=60}: Textlänge, kurze Texte sind häufiger</li>
+ *   <li>{@code --umlauts=0.3}: Anteil der Texte mit ä/ö/ü/ß</li>
+ * </ul>
+ * Gleicher Seed und gleiche Optionen ergeben dieselbe Datei (Byte für Byte, gleiche JDK-Version vorausgesetzt).
+ */
+public final class StoreGenerator {
+
+    private static final String[] WORDS_ASCII = {
+            "Zahnarzt", "Geburtstag", "Besprechung", "Training", "Elternabend", "Kino", "Friseur",
+            "Werkstatt", "Konzert", "Abgabe", "Termin", "Sport", "Bank", "Post", "Oma", "Team",
+            "Meeting", "Urlaub", "Arzt", "Bahn", "Essen", "Chor", "Verein", "Lesen"
+    };
+    private static final String[] WORDS_UMLAUT = {
+            "Ölwechsel", "Müll", "Steuererklärung", "Großeinkauf", "Bücherei", "Gemüse", "Füße",
+            "Schlüssel", "Übergabe", "Prüfung", "Kündigung", "Tür", "Grüße", "Straße", "Hühner"
+    };
+
+    private LocalDate start = LocalDate.of(2000, 1, 1);
+    private int years = 5;
+    private double perDay = 1.5;
+    private int maxPerDay = DayOccurrences.MAX_ROWS;
+    private double yearlyShare = 0.05;
+    private double monthlyShare = 0.02;
+    private double weekdaysShare = 0.005;
+    private int minLen = 6;
+    private int maxLen = 60;
+    private double umlautShare = 0.3;
+    private long seed = 42L;
+    private Path out;
+
+    public static void main(String[] args) throws IOException {
+        StoreGenerator g = new StoreGenerator();
+        g.parse(args);
+        if (g.out == null) {
+            System.err.println("Aufruf: java StoreGenerator --out=datei.properties [--years=N] [--per-day=X] ...");
+            System.exit(2);
+        }
+
+        long t0 = System.nanoTime();
+        Map<LocalDate, List<String>> store = g.generate();
+        long t1 = System.nanoTime();
+        EntryStoreIO.saveOrThrow(store, g.out);
+        dropTimestamp(g.out);
+        long t2 = System.nanoTime();
+
+        int entries = 0;
+        int repeaters = 0;
+        for (List<String> items : store.values()) {
+            entries += items.size();
+            for (String s : items) if (RepeatMode.detect(s) != RepeatMode.NONE) repeaters++;
+        }
+        System.out.printf(Locale.ROOT, "%d Tage, %d Einträge (%d Wiederholer) -> %s (%d KB), erzeugt in %.1f ms, geschrieben in %.1f ms%n",
+                store.size(), entries, repeaters, g.out, Files.size(g.out) / 1024,
+                (t1 - t0) / 1_000_000.0, (t2 - t1) / 1_000_000.0);
+    }
+
+    // Properties.store schreibt Datum/Uhrzeit als zweite Kommentarzeile – die würde jede Datei anders machen
+    private static void dropTimestamp(Path file) throws IOException {
+        List<String> lines = Files.readAllLines(file, StandardCharsets.ISO_8859_1);
+        if (lines.size() > 1 && lines.get(0).startsWith("#") && lines.get(1).startsWith("#")) {
+            lines.remove(1);
+            Files.write(file, lines, StandardCharsets.ISO_8859_1);
+        }
+    }
+
+    private void parse(String[] args) {
+        for (String a : args) {
+            String value = a.contains("=") ? a.substring(a.indexOf('=') + 1) : "";
+            if (a.startsWith("--start=")) start = LocalDate.parse(value);
+            else if (a.startsWith("--years=")) years = Math.max(1, Integer.parseInt(value));
+            else if (a.startsWith("--per-day=")) perDay = Math.max(0.0, Double.parseDouble(value));
+            else if (a.startsWith("--max-per-day=")) maxPerDay = Math.max(1, Integer.parseInt(value));
+            else if (a.startsWith("--yearly=")) yearlyShare = share(value);
+            else if (a.startsWith("--monthly=")) monthlyShare = share(value);
+            else if (a.startsWith("--weekdays=")) weekdaysShare = share(value);
+            else if (a.startsWith("--min-len=")) minLen = Math.max(1, Integer.parseInt(value));
+            else if (a.startsWith("--max-len=")) maxLen = Math.max(1, Integer.parseInt(value));
+            else if (a.startsWith("--umlauts=")) umlautShare = share(value);
+            else if (a.startsWith("--seed=")) seed = Long.parseLong(value);
+            else if (a.startsWith("--out=")) out = Paths.get(value);
+            else throw new IllegalArgumentException("Unbekannte Option: " + a);
+        }
+        if (maxLen < minLen) maxLen = minLen;
+        if (yearlyShare + monthlyShare + weekdaysShare > 1.0) {
+            throw new IllegalArgumentException("Summe der Wiederholer-Anteile > 1");
+        }
+    }
+
+    private static double share(String value) {
+        return Math.max(0.0, Math.min(1.0, Double.parseDouble(value)));
+    }
+
+    /** Erzeugt den Store im Speicher (ohne ihn zu schreiben). */
+    public Map<LocalDate, List<String>> generate() {
+        SplittableRandom rnd = new SplittableRandom(seed);
+        Map<LocalDate, List<String>> store = new HashMap<>();
+
+        LocalDate end = start.plusYears(years);
+        for (LocalDate day = start; day.isBefore(end); day = day.plusDays(1)) {
+            int n = Math.min(maxPerDay, poisson(rnd, perDay));
+            if (n == 0) continue;
+
+            List<String> items = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) {
+                items.add(repeatMode(rnd).applyTo(text(rnd)));
+            }
+            store.put(day, items);
+        }
+        return store;
+    }
+
+    private RepeatMode repeatMode(SplittableRandom rnd) {
+        double r = rnd.nextDouble();
+        if (r < yearlyShare) return RepeatMode.YEARLY;
+        r -= yearlyShare;
+        if (r < monthlyShare) return RepeatMode.MONTHLY;
+        r -= monthlyShare;
+        if (r < weekdaysShare) return RepeatMode.WEEKDAYS;
+        return RepeatMode.NONE;
+    }
+
+    private String text(SplittableRandom rnd) {
+        // quadratisch verteilt: viele kurze, wenige lange Texte
+        double u = rnd.nextDouble();
+        int len = minLen + (int) Math.round((maxLen - minLen) * u * u);
+        boolean umlauts = rnd.nextDouble() < umlautShare;
+
+        StringBuilder sb = new StringBuilder(len + 16);
+        // bei Umlaut-Texten kommt mindestens ein Umlaut-Wort vor
+        if (umlauts) sb.append(WORDS_UMLAUT[rnd.nextInt(WORDS_UMLAUT.length)]);
+        while (sb.length() < len) {
+            if (!sb.isEmpty()) sb.append(' ');
+            String[] words = (umlauts && rnd.nextInt(3) == 0) ? WORDS_UMLAUT : WORDS_ASCII;
+            sb.append(words[rnd.nextInt(words.length)]);
+        }
+        // gespeichert wird zeilenweise und getrimmt -> auf Wortgrenze kürzen
+        if (sb.length() > len) {
+            int cut = sb.lastIndexOf(" ", len);
+            if (cut > 0) sb.setLength(cut);
+        }
+        return sb.toString().strip();
+    }
+
+    // Knuth; für kleine Mittelwerte (Einträge pro Tag) ausreichend
+    private static int poisson(SplittableRandom rnd, double mean) {
+        if (mean <= 0.0) return 0;
+        double limit = Math.exp(-mean);
+        double p = 1.0;
+        int k = 0;
+        do {
+            k++;
+            p *= rnd.nextDouble();
+        } while (p > limit);
+        return k - 1;
+    }
+}
@@ -0,0 +1,291 @@
+import javax.swing.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Deklarative Zeitleiste für Effekt-Sequenzen (z.B. Hebel: Lichter, Dampf, Fenster).
+ *
+ * Eine Zeitleiste besteht aus
+ * <ul>
+ *   <li>Keyframes: einmalige Aktion zu einem Zeitpunkt ({@link #at}),</li>
+ *   <li>Spuren: Start-/Frame-/Ende-Callbacks über einen Zeitraum ({@link #span}, {@link #until}),</li>
+ *   <li>Tweens: Wert 0..1 mit Easing über eine Dauer ({@link #tween}).</li>
+ * </ul>
+ *
+ * Alle laufenden Zeitleisten werden von einem einzigen Swing-Timer getaktet (EDT).
+ * {@link #cancel()} beendet bereits gestartete Spuren sauber über ihren Ende-Callback.
+ */
+public final class Timeline {
+
+    public enum Easing {
+        LINEAR, EASE_IN, EASE_OUT, EASE_IN_OUT;
+
+        public double apply(double t) {
+            t = Math.max(0.0, Math.min(1.0, t));
+            return switch (this) {
+                case LINEAR -> t;
+                case EASE_IN -> t * t;
+                case EASE_OUT -> 1.0 - (1.0 - t) * (1.0 - t);
+                case EASE_IN_OUT -> (t < 0.5) ? 2.0 * t * t : 1.0 - Math.pow(-2.0 * t + 2.0, 2) / 2.0;
+            };
+        }
+    }
+
+    // Takt aller Effekte (ca. 30 FPS, wie die bisherigen Einzel-Timer)
+    public static final int FRAME_MS = 33;
+
+    private static final Timer DRIVER = new Timer(FRAME_MS, e -> tickAll());
+    private static final List<Timeline> RUNNING = new ArrayList<>();
+
+    // Ruhemodus (siehe PowerManager): Takt aus, beim Fortsetzen wird vorgespult
+    private static boolean paused;
+
+    private static final class Keyframe {
+        final long atMs;
+        final Runnable action;
+        boolean fired;
+
+        Keyframe(long atMs, Runnable action) {
+            this.atMs = atMs;
+            this.action = action;
+        }
+    }
+
+    private static final class Span {
+        final long startMs;
+        final long endMs; // < 0 = offen, endet wenn onFrame false liefert
+        final Runnable onStart;
+        final BooleanSupplier onFrame;
+        final Runnable onEnd;
+        boolean started;
+        boolean ended;
+
+        Span(long startMs, long endMs, Runnable onStart, BooleanSupplier onFrame, Runnable onEnd) {
+            this.startMs = startMs;
+            this.endMs = endMs;
+            this.onStart = onStart;
+            this.onFrame = onFrame;
+            this.onEnd = onEnd;
+        }
+
+        void end() {
+            if (started && !ended) {
+                ended = true;
+                if (onEnd != null) onEnd.run();
+            }
+        }
+    }
+
+    private final String name;
+    private final List<Keyframe> keyframes = new ArrayList<>();
+    private final List<Span> spans = new ArrayList<>();
+
+    private boolean running;
+    private long startNanos;
+    private long elapsedMs;
+
+    public Timeline(String name) {
+        this.name = name;
+    }
+
+    // ===================== Aufbau =====================
+
+    public Timeline at(long atMs, Runnable action) {
+        keyframes.add(new Keyframe(atMs, action));
+        return this;
+    }
+
+    /** Spur mit fester Dauer; onFrame wird in jedem Takt dazwischen aufgerufen. */
+    public Timeline span(long startMs, long endMs, Runnable onStart, Runnable onFrame, Runnable onEnd) {
+        spans.add(new Span(startMs, Math.max(startMs, endMs), onStart,
+                () -> {
+                    if (onFrame != null) onFrame.run();
+                    return true;
+                },
+                onEnd));
+        return this;
+    }
+
+    /** Offene Spur: läuft, solange onFrame {@code true} liefert. */
+    public Timeline until(long startMs, Runnable onStart, BooleanSupplier onFrame, Runnable onEnd) {
+        spans.add(new Span(startMs, -1, onStart, onFrame, onEnd));
+        return this;
+    }
+
+    /** Liefert über {@code durationMs} den mit Easing abgebildeten Fortschritt 0..1; endet garantiert bei 1. */
+    public Timeline tween(long startMs, long durationMs, Easing easing, DoubleConsumer target) {
+        long dur = Math.max(1, durationMs);
+        Easing ease = (easing != null) ? easing : Easing.LINEAR;
+        spans.add(new Span(startMs, startMs + dur,
+                () -> target.accept(ease.apply(0.0)),
+                () -> {
+                    target.accept(ease.apply((elapsedMs - startMs) / (double) dur));
+                    return true;
+                },
+                () -> target.accept(ease.apply(1.0))));
+        return this;
+    }
+
+    // ===================== Steuerung =====================
+
+    public void start() {
+        if (running) return;
+        running = true;
+        startNanos = AnimationClock.nanoTime();
+        elapsedMs = 0;
+
+        RUNNING.add(this);
+        // Virtueller Takt (Headless-Harness): getaktet wird über advance()
+        if (!paused && !AnimationClock.isVirtual() && !DRIVER.isRunning()) {
+            DRIVER.setInitialDelay(0);
+            DRIVER.start();
+        }
+    }
+
+    /** Bricht ab; bereits gestartete Spuren werden über ihren Ende-Callback aufgeräumt. */
+    public void cancel() {
+        if (!running) return;
+        for (Span s : spans) s.end();
+        stop();
+    }
+
+    /** Abbrechen und von vorn beginnen. */
+    public void restart() {
+        cancel();
+        for (Keyframe k : keyframes) k.fired = false;
+        for (Span s : spans) {
+            s.started = false;
+            s.ended = false;
+        }
+        start();
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public long getElapsedMs() {
+        return elapsedMs;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /** Noch ausstehende Keyframes plus noch nicht beendete Spuren. */
+    public int getPendingCount() {
+        int n = 0;
+        for (Keyframe k : keyframes) if (!k.fired) n++;
+        for (Span s : spans) if (!s.ended) n++;
+        return n;
+    }
+
+    @Override
+    public String toString() {
+        return "Timeline[" + name + ", " + (running ? "läuft" : "steht") + ", t=" + elapsedMs
+                + " ms, offen=" + getPendingCount() + "]";
+    }
+
+    /** Springt ans Ende: alle offenen Keyframes feuern, alle Spuren werden gestartet und beendet. */
+    public void finish() {
+        if (!running) return;
+
+        for (Keyframe k : keyframes) {
+            if (!k.fired) {
+                k.fired = true;
+                k.action.run();
+            }
+        }
+        for (Span s : spans) {
+            if (!s.started) {
+                s.started = true;
+                if (s.onStart != null) s.onStart.run();
+            }
+            s.end();
+        }
+        stop();
+    }
+
+    /** Hält den gemeinsamen Takt an (Ruhemodus). */
+    public static void pauseAll() {
+        paused = true;
+        DRIVER.stop();
+    }
+
+    /** Beendet nach einer Pause alle laufenden Zeitleisten im Endzustand und gibt den Takt wieder frei. */
+    public static void resumeAll() {
+        paused = false;
+        for (Timeline t : RUNNING.toArray(new Timeline[0])) t.finish();
+        if (!RUNNING.isEmpty()) DRIVER.start();
+    }
+
+    /** Ein Takt aller laufenden Zeitleisten, für den virtuellen Takt ({@link AnimationClock}). */
+    public static void advance() {
+        tickAll();
+    }
+
+    /** Anzahl der gerade laufenden Zeitleisten (für Diagnose). */
+    public static int runningCount() {
+        return RUNNING.size();
+    }
+
+    // ===================== Takt =====================
+
+    private static void tickAll() {
+        // Kopie, weil Callbacks Zeitleisten starten/abbrechen dürfen
+        for (Timeline t : RUNNING.toArray(new Timeline[0])) {
+            if (t.running) t.tick();
+        }
+        if (RUNNING.isEmpty()) DRIVER.stop();
+    }
+
+    private void tick() {
+        elapsedMs = (AnimationClock.nanoTime() - startNanos) / 1_000_000L;
+        boolean pending = false;
+
+        for (Keyframe k : keyframes) {
+            if (k.fired) continue;
+            if (elapsedMs >= k.atMs) {
+                k.fired = true;
+                k.action.run();
+                if (!running) return; // Aktion hat abgebrochen
+            } else {
+                pending = true;
+            }
+        }
+
+        for (Span s : spans) {
+            if (s.ended) continue;
+            if (elapsedMs < s.startMs) {
+                pending = true;
+                continue;
+            }
+
+            if (!s.started) {
+                s.started = true;
+                if (s.onStart != null) s.onStart.run();
+                if (!running) return;
+            }
+
+            boolean open = (s.endMs < 0);
+            if (!open && elapsedMs >= s.endMs) {
+                s.end();
+            } else if (!s.onFrame.getAsBoolean()) {
+                s.end();
+            } else {
+                pending = true;
+            }
+            if (!running) return;
+        }
+
+        if (!pending) stop();
+    }
+
+    private void stop() {
+        running = false;
+        RUNNING.remove(this);
+        if (RUNNING.isEmpty()) DRIVER.stop();
+    }
+}
@@ -0,0 +1,86 @@
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.InputEvent;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseWheelEvent;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Trainingslauf für den CDS/AOT-Cache ({@link AppCds}): bedient die Maschine einmal wie ein
+ * Benutzer – Bullaugen drehen, Hebel ziehen, Tagesfenster abwarten – und beendet dann die JVM,
+ * damit das Archiv beim Beenden geschrieben wird. Es werden keine Einträge verändert.
+ *
+ * Start: {@code java Main --training-run}. Nur auf dem EDT benutzen.
+ */
+final class TrainingRun {
+
+    private static final int TICK_MS = 40;
+    // Hebel-Sequenz (1,6 s bis zum Fenster) plus Split-Flap-Rattern
+    private static final long SETTLE_MS = 2_500L;
+    private static final long TIMEOUT_MS = 30_000L;
+
+    private final List<BullaugeControl> dials = new ArrayList<>();
+    private LeverControl lever;
+
+    private final Timer timer = new Timer(TICK_MS, e -> step());
+    private final long startedAt = System.currentTimeMillis();
+
+    private int tick;
+    private long leverReleasedAt = -1;
+
+    private TrainingRun(Container root) {
+        collect(root);
+        dials.sort(Comparator.comparingInt(Component::getX));
+    }
+
+    static void start(Container root) {
+        TrainingRun run = new TrainingRun(root);
+        run.timer.setInitialDelay(500);
+        run.timer.start();
+    }
+
+    private void step() {
+        int t = tick++;
+        int dialTicks = dials.size() * 12;
+
+        if (t < dialTicks) {
+            // je Bullauge 8 Rasten einzeln, 4 schnell mit Shift
+            BullaugeControl dial = dials.get(t / 12);
+            boolean fast = (t % 12) >= 8;
+            dial.dispatchEvent(new MouseWheelEvent(dial, MouseEvent.MOUSE_WHEEL, System.currentTimeMillis(),
+                    fast ? InputEvent.SHIFT_DOWN_MASK : 0, dial.getWidth() / 2, dial.getHeight() / 2,
+                    0, false, MouseWheelEvent.WHEEL_UNIT_SCROLL, 1, -1));
+        } else if (lever != null && t == dialTicks + 10) {
+            lever.dispatchEvent(mouse(MouseEvent.MOUSE_PRESSED, 40));
+        } else if (lever != null && t > dialTicks + 10 && t <= dialTicks + 40) {
+            lever.dispatchEvent(mouse(MouseEvent.MOUSE_DRAGGED, 48));
+        } else if (lever != null && t == dialTicks + 41) {
+            lever.dispatchEvent(mouse(MouseEvent.MOUSE_RELEASED, 40));
+            leverReleasedAt = System.currentTimeMillis();
+        }
+
+        long now = System.currentTimeMillis();
+        boolean settled = leverReleasedAt >= 0 && Timeline.runningCount() == 0
+                && now - leverReleasedAt >= SETTLE_MS;
+        if (settled || (lever == null && t > dialTicks + 20) || now - startedAt > TIMEOUT_MS) {
+            timer.stop();
+            System.exit(0);
+        }
+    }
+
+    private MouseEvent mouse(int id, int y) {
+        int mods = (id == MouseEvent.MOUSE_RELEASED) ? 0 : InputEvent.BUTTON1_DOWN_MASK;
+        return new MouseEvent(lever, id, System.currentTimeMillis(), mods, lever.getWidth() / 2, y,
+                1, false, MouseEvent.BUTTON1);
+    }
+
+    private void collect(Container c) {
+        for (Component child : c.getComponents()) {
+            if (child instanceof BullaugeControl b) dials.add(b);
+            else if (child instanceof LeverControl l) lever = l;
+            if (child instanceof Container cc) collect(cc);
+        }
+    }
+}
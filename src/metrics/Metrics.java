@@ -0,0 +1,120 @@
+package metrics;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Kleine Statistik über die eigenen JFR-Events (Store, Wiederholer, Fenster, Paint).
+ *
+ * Die Events sind standardmäßig aus und kosten dann nichts. {@link #start()} schaltet sie
+ * prozessintern über einen {@link RecordingStream} ein und summiert sie auf; die Werte kommen
+ * mit etwa einer Sekunde Verzögerung an. Von außen genügt eine normale Aufzeichnung, z.B.
+ * {@code -XX:StartFlightRecording:filename=zm.jfr,+zeitmaschine.Paint#enabled=true}.
+ *
+ * {@code -Dzeitmaschine.metrics=true} startet die Statistik beim Programmstart und gibt sie
+ * beim Beenden aus; Umschalt+F3 gibt sie jederzeit aus.
+ */
+public final class Metrics {
+    private Metrics() {}
+
+    public static final String STORE_LOAD = "zeitmaschine.StoreLoad";
+    public static final String STORE_SAVE = "zeitmaschine.StoreSave";
+    public static final String RECURRENCE_QUERY = "zeitmaschine.RecurrenceQuery";
+    public static final String WINDOW_OPEN = "zeitmaschine.WindowOpen";
+    public static final String PAINT = "zeitmaschine.Paint";
+
+    private static final String[] EVENTS = {STORE_LOAD, STORE_SAVE, RECURRENCE_QUERY, WINDOW_OPEN, PAINT};
+
+    private static final class Stat {
+        long count;
+        long totalNanos;
+        long maxNanos;
+        long bytes;
+        long scanned;
+        long matched;
+        long onEdt;
+    }
+
+    private static RecordingStream stream;
+    private static final Map<String, Stat> STATS = new TreeMap<>();
+
+    public static boolean enabledByProperty() {
+        return Boolean.getBoolean("zeitmaschine.metrics");
+    }
+
+    /** Schaltet die Events ein und beginnt zu zählen (idempotent). */
+    public static synchronized void start() {
+        if (stream != null) return;
+
+        RecordingStream rs = new RecordingStream();
+        rs.setMaxAge(Duration.ofSeconds(30));
+        for (String name : EVENTS) {
+            rs.enable(name).withoutThreshold();
+            rs.onEvent(name, Metrics::record);
+        }
+        rs.startAsync();
+        stream = rs;
+    }
+
+    public static synchronized void stop() {
+        if (stream == null) return;
+        stream.close();
+        stream = null;
+    }
+
+    public static synchronized boolean isRunning() {
+        return stream != null;
+    }
+
+    /** Eine Zeile pro Event-Art bzw. Komponente, sortiert nach Name. */
+    public static synchronized List<String> snapshot() {
+        List<String> lines = new ArrayList<>();
+        for (Map.Entry<String, Stat> e : STATS.entrySet()) {
+            Stat s = e.getValue();
+            StringBuilder sb = new StringBuilder(String.format(Locale.ROOT, "%-24s n=%-6d Ø %6.2f ms  max %7.2f ms",
+                    e.getKey(), s.count, s.totalNanos / 1e6 / s.count, s.maxNanos / 1e6));
+            if (s.bytes > 0) sb.append(String.format(Locale.ROOT, "  Ø %d KB", s.bytes / s.count / 1024));
+            if (s.scanned > 0) sb.append(String.format(Locale.ROOT, "  Ø %d geprüft / %.1f Treffer",
+                    s.scanned / s.count, s.matched / (double) s.count));
+            if (s.onEdt > 0) sb.append("  ").append(s.onEdt).append("x auf EDT");
+            lines.add(sb.toString());
+        }
+        return lines;
+    }
+
+    public static void dump(PrintStream out) {
+        List<String> lines = snapshot();
+        if (!isRunning()) {
+            out.println("[Metrics] nicht aktiv (-Dzeitmaschine.metrics=true)");
+            return;
+        }
+        out.println("[Metrics] " + (lines.isEmpty() ? "noch keine Events" : lines.size() + " Gruppen"));
+        for (String line : lines) out.println("  " + line);
+    }
+
+    private static synchronized void record(RecordedEvent e) {
+        String type = e.getEventType().getName();
+        String key = type.equals(PAINT)
+                ? "Paint " + e.getString("component")
+                : e.getEventType().getLabel();
+
+        Stat s = STATS.computeIfAbsent(key, k -> new Stat());
+        long nanos = e.getDuration().toNanos();
+        s.count++;
+        s.totalNanos += nanos;
+        s.maxNanos = Math.max(s.maxNanos, nanos);
+
+        if (e.hasField("bytes")) s.bytes += e.getLong("bytes");
+        if (e.hasField("scanned")) s.scanned += e.getInt("scanned");
+        if (e.hasField("matched")) s.matched += e.getInt("matched");
+        if (e.hasField("onEdt") && e.getBoolean("onEdt")) s.onEdt++;
+    }
+}
@@ -0,0 +1,24 @@
+package metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Zeichendauer einer Komponente. Verschachtelt: das Hauptpanel enthält die Zeit seiner Kinder.
+ *
+ * Erzeugt wird es über {@link PaintProbe}.
+ */
+@Name("zeitmaschine.Paint")
+@Label("Komponente zeichnen")
+@Category({"Zeitmaschine", "UI"})
+@Description("Dauer von paint/paintComponent einer Komponente")
+@Enabled(false)
+@StackTrace(false)
+public final class PaintEvent extends jdk.jfr.Event {
+    @Label("Komponente")
+    public String component;
+}
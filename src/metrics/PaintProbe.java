@@ -0,0 +1,48 @@
+package metrics;
+
+import jdk.jfr.FlightRecorder;
+
+/**
+ * Misst ein Paint für {@link PaintEvent} (JFR) und {@link PaintTimes} (Overlay).
+ *
+ * Benutzung: {@code PaintProbe paint = PaintProbe.start(); ... paint.done("Bullauge");}
+ * Ist weder JFR initialisiert noch das Overlay sichtbar, liefert {@link #start()} ein geteiltes
+ * Leer-Objekt: keine Allokation, keine Zeitmessung, und die Event-Klasse wird nicht geladen
+ * (das allein kostet ohne laufendes JFR einige hundert Millisekunden).
+ */
+public final class PaintProbe {
+
+    private static final PaintProbe OFF = new PaintProbe(null, 0L);
+
+    private final PaintEvent event;
+    private final long hudStartNanos;
+
+    private PaintProbe(PaintEvent event, long hudStartNanos) {
+        this.event = event;
+        this.hudStartNanos = hudStartNanos;
+    }
+
+    public static PaintProbe start() {
+        boolean hud = PaintTimes.isActive();
+        boolean jfr = FlightRecorder.isInitialized();
+        if (!hud && !jfr) return OFF;
+
+        PaintEvent e = null;
+        if (jfr) {
+            e = new PaintEvent();
+            e.begin();
+        }
+        return new PaintProbe(e, hud ? System.nanoTime() : 0L);
+    }
+
+    public void done(String component) {
+        if (hudStartNanos != 0) PaintTimes.record(component, System.nanoTime() - hudStartNanos);
+        if (event == null) return;
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.component = component;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Paint-Zeit je Komponente im letzten Frame, für das Diagnose-Overlay.
+ *
+ * Gemessen wird nur, solange {@link #setActive(boolean)} an ist (Overlay sichtbar); sonst
+ * bleibt es bei einem Flag-Test in {@link PaintProbe}. Mehrere Komponenten mit gleichem Namen
+ * (z.B. alle Zahnräder) werden pro Frame addiert. Nur auf dem EDT benutzen.
+ */
+public final class PaintTimes {
+    private PaintTimes() {}
+
+    private static volatile boolean active;
+
+    private static final Map<String, long[]> CURRENT = new LinkedHashMap<>();
+    private static final Map<String, Double> LAST_MS = new LinkedHashMap<>();
+
+    public static void setActive(boolean on) {
+        active = on;
+        if (!on) {
+            CURRENT.clear();
+            LAST_MS.clear();
+        }
+    }
+
+    public static boolean isActive() {
+        return active;
+    }
+
+    static void record(String component, long nanos) {
+        CURRENT.computeIfAbsent(component, k -> new long[1])[0] += nanos;
+    }
+
+    /** Schließt einen Frame ab; aufgerufen nach dem Paint des Hauptpanels. */
+    public static void endFrame() {
+        if (!active) return;
+        for (Map.Entry<String, long[]> e : CURRENT.entrySet()) {
+            long[] sum = e.getValue();
+            if (sum[0] == 0) continue;
+            LAST_MS.put(e.getKey(), sum[0] / 1_000_000.0);
+            sum[0] = 0;
+        }
+    }
+
+    /** Zuletzt gemessene Zeit je Komponente in ms (Reihenfolge des ersten Auftretens). */
+    public static Map<String, Double> lastFrameMs() {
+        return LAST_MS;
+    }
+}
@@ -0,0 +1,26 @@
+package metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** Berechnung der Einträge eines Tages inkl. Wiederholer-Scan (DayOccurrences). */
+@Name("zeitmaschine.RecurrenceQuery")
+@Label("Wiederholer-Abfrage")
+@Category({"Zeitmaschine", "Store"})
+@Description("Direkte Einträge eines Tages plus Scan aller Wiederholer im Store")
+@Enabled(false)
+@StackTrace(false)
+public final class RecurrenceQueryEvent extends jdk.jfr.Event {
+    @Label("Datum")
+    public String date;
+
+    @Label("Geprüfte Einträge")
+    public int scanned;
+
+    @Label("Treffer")
+    public int matched;
+}
@@ -0,0 +1,31 @@
+package metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** Laden des Eintrags-Stores (EntryStoreIO). */
+@Name("zeitmaschine.StoreLoad")
+@Label("Store laden")
+@Category({"Zeitmaschine", "Store"})
+@Description("Lesen und Dekodieren von entries.properties")
+@Enabled(false)
+@StackTrace(false)
+public final class StoreLoadEvent extends jdk.jfr.Event {
+    @Label("Datei")
+    public String path;
+
+    @Label("Dateigröße")
+    @DataAmount
+    public long bytes;
+
+    @Label("Tage")
+    public int days;
+
+    @Label("Einträge")
+    public int entries;
+}
@@ -0,0 +1,32 @@
+package metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** Schreiben des Eintrags-Stores (EntryStoreIO); mit Stacktrace, um den Auslöser zu sehen. */
+@Name("zeitmaschine.StoreSave")
+@Label("Store speichern")
+@Category({"Zeitmaschine", "Store"})
+@Description("Kodieren und Schreiben von entries.properties")
+@Enabled(false)
+public final class StoreSaveEvent extends jdk.jfr.Event {
+    @Label("Datei")
+    public String path;
+
+    @Label("Dateigröße")
+    @DataAmount
+    public long bytes;
+
+    @Label("Tage")
+    public int days;
+
+    @Label("Einträge")
+    public int entries;
+
+    @Label("Auf dem EDT")
+    public boolean onEdt;
+}
@@ -0,0 +1,29 @@
+package metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Latenz vom Einrasten des Hebels bis zum ersten gezeichneten Split-Flap-Frame des Tagesfensters.
+ *
+ * Gesteuert über {@link WindowOpenProbe}; {@link #firstFrame()} nach dem ersten Paint.
+ */
+@Name("zeitmaschine.WindowOpen")
+@Label("Tagesfenster öffnen")
+@Category({"Zeitmaschine", "UI"})
+@Description("Hebel eingerastet bis erster Split-Flap-Frame")
+@Enabled(false)
+@StackTrace(false)
+public final class WindowOpenEvent extends jdk.jfr.Event {
+    @Label("Datum")
+    public String date;
+
+    public void firstFrame() {
+        end();
+        if (shouldCommit()) commit();
+    }
+}
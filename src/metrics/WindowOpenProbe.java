@@ -0,0 +1,38 @@
+package metrics;
+
+import jdk.jfr.FlightRecorder;
+
+import java.time.LocalDate;
+
+/**
+ * Steuert die Messung {@link WindowOpenEvent} (nur EDT): {@link #latched()} beim Einrasten des
+ * Hebels, {@link #opening(LocalDate)} beim Öffnen und {@link #claim()} im Split-Flap, das den
+ * Text zeigt. Ohne laufendes JFR bleibt alles {@code null} und die Event-Klasse ungeladen.
+ */
+public final class WindowOpenProbe {
+    private WindowOpenProbe() {}
+
+    // höchstens ein offener Vorgang
+    private static WindowOpenEvent pending;
+
+    public static void latched() {
+        pending = null;
+        if (!FlightRecorder.isInitialized()) return;
+
+        WindowOpenEvent e = new WindowOpenEvent();
+        if (!e.isEnabled()) return;
+        e.begin();
+        pending = e;
+    }
+
+    public static void opening(LocalDate date) {
+        if (pending != null) pending.date = String.valueOf(date);
+    }
+
+    /** Übernimmt den offenen Vorgang (oder {@code null}). */
+    public static WindowOpenEvent claim() {
+        WindowOpenEvent e = pending;
+        pending = null;
+        return e;
+    }
+}